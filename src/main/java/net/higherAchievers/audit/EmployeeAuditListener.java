@@ -0,0 +1,104 @@
+package net.higherAchievers.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import net.higherAchievers.entity.Employee;
+import net.higherAchievers.entity.EmployeeAudit;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Turns every committed insert, update and delete of an Employee into an EmployeeChange for the
+// EmployeeAuditWriter. Post-commit events are used so rolled back changes are never audited;
+// the before and after values come from the state Hibernate already holds for dirty checking.
+@Component
+public class EmployeeAuditListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    // bookkeeping columns that are not part of the employee's history
+    private static final Set<String> IGNORED = Set.of("tenantId", "updatedAt");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EmployeeAuditWriter writer;
+
+    public EmployeeAuditListener(EntityManagerFactory entityManagerFactory, EmployeeAuditWriter writer) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.writer = writer;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.getMappedClass() == Employee.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Employee employee) {
+            record(employee, (Long) event.getId(), EmployeeAudit.Action.CREATE,
+                    event.getPersister().getPropertyNames(), null, event.getState());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Employee employee) {
+            record(employee, (Long) event.getId(), EmployeeAudit.Action.UPDATE,
+                    event.getPersister().getPropertyNames(), event.getOldState(), event.getState());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Employee employee) {
+            record(employee, (Long) event.getId(), EmployeeAudit.Action.DELETE,
+                    event.getPersister().getPropertyNames(), event.getDeletedState(), null);
+        }
+    }
+
+    // nothing was committed, so there is nothing to audit
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void record(Employee employee, long id, EmployeeAudit.Action action, String[] properties,
+                        Object[] before, Object[] after) {
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            Object beforeValue = before == null ? null : before[i];
+            Object afterValue = after == null ? null : after[i];
+            if (!IGNORED.contains(properties[i]) && !Objects.equals(beforeValue, afterValue)) {
+                changes.put(properties[i], new Object[]{beforeValue, afterValue});
+            }
+        }
+        if (!changes.isEmpty()) {
+            writer.append(new EmployeeChange(id, employee.getTenantId(), action, LocalDateTime.now(), changes));
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+package net.higherAchievers.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Writes committed employee changes from the ring buffer to employee_audit in batches on one background
+// thread, so auditing adds no database round trip to the request that made the change.
+@Component
+@DependsOn("entityManagerFactory")
+public class EmployeeAuditWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeAuditWriter.class);
+
+    private static final String INSERT = "insert into employee_audit (employee_id, tenant_id, action, changed_at, changes)"
+            + " values (?, ?, ?, ?, ?)";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditRingBuffer<EmployeeChange> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final Duration shutdownTimeout;
+
+    private final AtomicLong dropped = new AtomicLong();
+    // changes offered to the buffer, and changes the writer thread has written or dropped since
+    private final AtomicLong buffered = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicInteger appending = new AtomicInteger();
+    // only touched by the writer thread, and by stop() once that thread has ended
+    private final List<EmployeeChange> pending = new ArrayList<>();
+    private int failedAttempts;
+
+    private volatile boolean closed;
+    private Thread worker;
+
+    public EmployeeAuditWriter(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${app.audit.buffer-size:8192}") int bufferSize,
+                               @Value("${app.audit.batch-size:256}") int batchSize,
+                               @Value("${app.audit.flush-interval:200ms}") Duration flushInterval,
+                               @Value("${app.audit.offer-timeout:50ms}") Duration offerTimeout,
+                               @Value("${app.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // a hung database fails the batch instead of blocking the writer, or the shutdown, for good
+        this.transactionTemplate.setTimeout((int) Math.max(1, shutdownTimeout.toSeconds()));
+        this.objectMapper = objectMapper;
+        this.buffer = new AuditRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "employee-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // drains the buffer before the database goes away, waiting for appends already in progress;
+    // later appends are written directly
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        closed = true;
+        LockSupport.unpark(worker);
+        worker.join(Math.max(1, shutdownTimeout.toMillis()));
+        if (worker.isAlive()) {
+            // the writer thread still owns its batch, so only the buffer can be accounted for
+            log.error("Employee audit writer did not stop within {}", shutdownTimeout);
+            drop(buffer.size(), "the audit writer did not stop in time");
+            return;
+        }
+        // an append that saw the writer open may still be offering; it is drained once it has finished
+        while (appending.get() > 0 || buffer.size() > 0 || !pending.isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                drop(buffer.size() + pending.size(), "shutdown-timeout ran out");
+                return;
+            }
+            buffer.drainTo(pending::add, batchSize - pending.size());
+            if (pending.isEmpty()) {
+                Thread.onSpinWait();
+                continue;
+            }
+            failedAttempts = MAX_ATTEMPTS - 1;
+            flushPending();
+        }
+    }
+
+    // changes only get lost when the buffer stays full for offer-timeout, a batch fails max-attempts times
+    // or shutdown-timeout runs out, and each is counted here; a crash loses at most the buffered changes
+    public long droppedChanges() {
+        return dropped.get();
+    }
+
+    // waits until every change buffered before the call has been written or dropped
+    public boolean flush(Duration timeout) {
+        long target = buffered.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        LockSupport.unpark(worker);
+        while (completed.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(1_000_000);
+        }
+        return true;
+    }
+
+    // called from the committing thread; once stopped, changes are written straight away, and one
+    // that cannot be written is dropped rather than thrown back into the committed transaction
+    void append(EmployeeChange change) {
+        appending.incrementAndGet();
+        try {
+            if (closed) {
+                try {
+                    write(List.of(change));
+                } catch (RuntimeException e) {
+                    log.error("Could not write an employee audit row after the writer stopped", e);
+                    drop(1, "writing it after shutdown failed");
+                }
+                return;
+            }
+            if (buffer.offer(change)) {
+                buffered.incrementAndGet();
+                if (buffer.size() >= batchSize) {
+                    LockSupport.unpark(worker);
+                }
+                return;
+            }
+            LockSupport.unpark(worker);
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(100_000);
+                if (buffer.offer(change)) {
+                    buffered.incrementAndGet();
+                    return;
+                }
+            }
+            drop(1, "the audit buffer is full");
+        } finally {
+            appending.decrementAndGet();
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            buffer.drainTo(pending::add, batchSize - pending.size());
+            if (pending.isEmpty() || !flushPending()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    // a batch that keeps failing is dropped, so one bad row cannot stall auditing for good
+    private boolean flushPending() {
+        try {
+            write(pending);
+            completed.addAndGet(pending.size());
+            pending.clear();
+            failedAttempts = 0;
+            return true;
+        } catch (RuntimeException e) {
+            if (++failedAttempts < MAX_ATTEMPTS) {
+                log.warn("Could not write {} employee audit rows, retrying", pending.size(), e);
+                return false;
+            }
+            log.error("Could not write {} employee audit rows after {} attempts", pending.size(), MAX_ATTEMPTS, e);
+            drop(pending.size(), "writing them failed");
+            completed.addAndGet(pending.size());
+            pending.clear();
+            failedAttempts = 0;
+            return false;
+        }
+    }
+
+    private void write(List<EmployeeChange> changes) throws DataAccessException {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (statement, change) -> {
+                    statement.setLong(1, change.employeeId());
+                    statement.setString(2, change.tenantId());
+                    statement.setString(3, change.action().name());
+                    statement.setTimestamp(4, Timestamp.valueOf(change.changedAt()));
+                    statement.setString(5, toJson(change.changes()));
+                }));
+    }
+
+    private String toJson(Map<String, Object[]> changes) {
+        Map<String, Map<String, Object>> fields = new LinkedHashMap<>();
+        changes.forEach((field, values) -> {
+            Map<String, Object> beforeAndAfter = new LinkedHashMap<>();
+            beforeAndAfter.put("before", values[0]);
+            beforeAndAfter.put("after", values[1]);
+            fields.put(field, beforeAndAfter);
+        });
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize employee changes", e);
+        }
+    }
+
+    // logged for the first drop and every thousandth after it, so an overload cannot flood the log
+    private void drop(int changes, String reason) {
+        if (changes == 0) {
+            return;
+        }
+        long before = dropped.getAndAdd(changes);
+        if (before / 1000 != (before + changes) / 1000 || before == 0) {
+            log.warn("Dropped {} employee audit changes because {}; {} dropped in total",
+                    changes, reason, before + changes);
+        }
+    }
+
+}
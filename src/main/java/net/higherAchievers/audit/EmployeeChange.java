@@ -0,0 +1,11 @@
+package net.higherAchievers.audit;
+
+import net.higherAchievers.entity.EmployeeAudit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// One committed change of an employee; changes maps each touched field to its before and after value
+record EmployeeChange(long employeeId, String tenantId, EmployeeAudit.Action action, LocalDateTime changedAt,
+                      Map<String, Object[]> changes) {
+}
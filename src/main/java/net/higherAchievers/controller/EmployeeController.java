@@ -1,7 +1,10 @@
 package net.higherAchievers.controller;
 
 import net.higherAchievers.entity.Employee;
+import net.higherAchievers.entity.EmployeeAudit;
+import net.higherAchievers.service.EmployeeAuditService;
 import net.higherAchievers.service.EmployeeService;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,9 +16,11 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeAuditService employeeAuditService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeAuditService employeeAuditService) {
         this.employeeService = employeeService;
+        this.employeeAuditService = employeeAuditService;
     }
 
     @PostMapping
@@ -36,6 +41,21 @@ public class EmployeeController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping(params = "email")
+    public ResponseEntity<Employee> getEmployeeByEmail(@RequestParam("email") String email) {
+        return employeeService.getEmployeeByEmail(email)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // the history outlives the employee, so it is still served after a delete
+    @GetMapping("/{id}/history")
+    public Page<EmployeeAudit> getEmployeeHistory(@PathVariable("id") long employeeId,
+                                                  @RequestParam(value = "page", defaultValue = "0") int page,
+                                                  @RequestParam(value = "size", defaultValue = "20") int size) {
+        return employeeAuditService.getEmployeeHistory(employeeId, page, size);
+    }
+
     @PutMapping()
     public ResponseEntity<Employee> updateEmployee(@RequestParam("id") long employeeId,
                                                    @RequestBody Employee employee) {
@@ -0,0 +1,37 @@
+package net.higherAchievers.controller;
+
+import net.higherAchievers.service.EmployeeStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/employees/stats")
+public class EmployeeStatsController {
+
+    private final EmployeeStatsService employeeStatsService;
+
+    public EmployeeStatsController(EmployeeStatsService employeeStatsService) {
+        this.employeeStatsService = employeeStatsService;
+    }
+
+    @GetMapping("/email-domains")
+    public Map<String, Long> countByEmailDomain(@RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return employeeStatsService.countByEmailDomain(limit);
+    }
+
+    @GetMapping("/last-names")
+    public Map<String, Long> countByLastName(@RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return employeeStatsService.countByLastName(limit);
+    }
+
+    @GetMapping("/growth")
+    public Map<LocalDate, Long> countByCreatedDate() {
+        return employeeStatsService.countByCreatedDate();
+    }
+
+}
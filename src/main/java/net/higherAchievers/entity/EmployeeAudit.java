@@ -0,0 +1,49 @@
+package net.higherAchievers.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDateTime;
+
+// Append-only change history of employees, written in batches by EmployeeAuditWriter
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Immutable
+@Entity
+@Table(name = "employee_audit", indexes = @Index(name = "idx_employee_audit_employee", columnList = "tenant_id, employee_id"))
+public class EmployeeAudit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Action action;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // {"field": {"before": ..., "after": ...}} for every field the change touched
+    @JsonRawValue
+    @Column(nullable = false, length = 4000)
+    private String changes;
+
+    @TenantId
+    @JsonIgnore
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private String tenantId;
+
+    public enum Action {
+        CREATE, UPDATE, DELETE
+    }
+}
@@ -0,0 +1,10 @@
+package net.higherAchievers.repository;
+
+import net.higherAchievers.entity.EmployeeAudit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmployeeAuditRepository extends JpaRepository<EmployeeAudit, Long> {
+    Page<EmployeeAudit> findByEmployeeId(long employeeId, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package net.higherAchievers.repository;
+
+// projection for the group by queries in EmployeeRepository
+public interface EmployeeCount {
+    String getName();
+    long getTotal();
+}
@@ -0,0 +1,9 @@
+package net.higherAchievers.repository;
+
+import java.time.LocalDate;
+
+// projection for the employees created per day
+public interface EmployeeDailyCount {
+    LocalDate getCreatedOn();
+    long getTotal();
+}
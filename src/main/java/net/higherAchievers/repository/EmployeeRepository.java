@@ -2,14 +2,25 @@ package net.higherAchievers.repository;
 
 import net.higherAchievers.entity.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
+// Hibernate filters JPQL by Employee.tenantId; native queries match the current tenant themselves
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Optional<Employee> findByEmail(String email);
 
+    // loading by primary key skips the tenant filter, so look the id up with JPQL instead
+    @Override
+    @Query("select e from Employee e where e.id = ?1")
+    Optional<Employee> findById(Long id);
+
     // define custom query using JPQL with index params
     @Query("select e from Employee e where e.firstName = ?1 and e.lastName = ?2")
     Employee findByJPQL(String firstName, String lastName);
@@ -19,12 +30,41 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Employee findByJPQLNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
     // define custom query using Native SQL with index params
-    @Query(value = "select * from employees e where e.first_name =?1 and e.last_name =?2" , nativeQuery = true)
+    @Query(value = "select * from employees e where e.first_name =?1 and e.last_name =?2 " +
+            "and e.tenant_id = ?#{T(net.higherAchievers.tenant.TenantContext).getTenantId()}", nativeQuery = true)
     Employee findByNativeSQL(String firstName, String lastName);
 
     // define custom query using Native SQL with index named params
-    @Query(value = "select * from employees e where e.first_name =:firstName and e.last_name =:lastName" ,
-            nativeQuery = true)
+    @Query(value = "select * from employees e where e.first_name =:firstName and e.last_name =:lastName " +
+            "and e.tenant_id = :#{T(net.higherAchievers.tenant.TenantContext).getTenantId()}", nativeQuery = true)
     Employee findByNativeSQLNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
+    // count employees per email domain using Native SQL group by
+    @Query(value = "select substring(e.email, locate('@', e.email) + 1) as name, count(*) as total " +
+            "from employees e where e.tenant_id = :#{T(net.higherAchievers.tenant.TenantContext).getTenantId()} " +
+            "group by substring(e.email, locate('@', e.email) + 1) order by total desc",
+            nativeQuery = true)
+    List<EmployeeCount> countByEmailDomain();
+
+    // count employees per last name using Native SQL group by
+    @Query(value = "select e.last_name as name, count(*) as total from employees e " +
+            "where e.tenant_id = :#{T(net.higherAchievers.tenant.TenantContext).getTenantId()} " +
+            "group by e.last_name order by total desc", nativeQuery = true)
+    List<EmployeeCount> countByLastName();
+
+    // count employees created per day using Native SQL group by
+    @Query(value = "select cast(e.created_at as date) as createdOn, count(*) as total from employees e " +
+            "where e.tenant_id = :#{T(net.higherAchievers.tenant.TenantContext).getTenantId()} " +
+            "group by cast(e.created_at as date) order by createdOn", nativeQuery = true)
+    List<EmployeeDailyCount> countByCreatedDate();
+
+    // read a detached copy of the stored row without flushing pending changes,
+    // so an update can see the values it replaces; the row stays locked until the transaction ends,
+    // so concurrent updates of one employee each see the values the previous one committed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id as id, e.firstName as firstName, e.lastName as lastName, e.email as email, " +
+            "e.createdAt as createdAt, e.tenantId as tenantId from Employee e where e.id = ?1")
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    Optional<StoredEmployee> findStoredById(long id);
+
 }
@@ -0,0 +1,26 @@
+package net.higherAchievers.repository;
+
+import net.higherAchievers.entity.Employee;
+
+import java.time.LocalDateTime;
+
+// projection for EmployeeRepository.findStoredById; bound by alias, so new Employee fields do not affect it
+public interface StoredEmployee {
+    Long getId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    LocalDateTime getCreatedAt();
+    String getTenantId();
+
+    default Employee toEmployee() {
+        return Employee.builder()
+                .id(getId())
+                .firstName(getFirstName())
+                .lastName(getLastName())
+                .email(getEmail())
+                .createdAt(getCreatedAt())
+                .tenantId(getTenantId())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package net.higherAchievers.service;
+
+import net.higherAchievers.entity.EmployeeAudit;
+import org.springframework.data.domain.Page;
+
+public interface EmployeeAuditService {
+    // newest change first
+    Page<EmployeeAudit> getEmployeeHistory(long employeeId, int page, int size);
+}
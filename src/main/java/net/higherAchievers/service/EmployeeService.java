@@ -9,6 +9,7 @@ public interface EmployeeService {
     Employee saveEmployee(Employee employee);
     List<Employee> getAllEmployees();
     Optional<Employee> getEmployeeById(long id);
+    Optional<Employee> getEmployeeByEmail(String email);
     Employee updateEmployee(Employee updatedEmployee);
     void deleteEmployee(long id);
 }
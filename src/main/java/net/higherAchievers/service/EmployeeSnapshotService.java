@@ -0,0 +1,16 @@
+package net.higherAchievers.service;
+
+import net.higherAchievers.entity.Employee;
+
+import java.util.Optional;
+
+public interface EmployeeSnapshotService {
+    Optional<Employee> findById(long id);
+    Optional<Employee> findByEmail(String email);
+    void employeeSaved(Employee employee);
+    void employeeRemoved(long id);
+    // taken before reading an employee from the table, and handed back to employeeLoaded with the result
+    long readStamp();
+    // adds an employee read from the table unless it is already held, or it changed after readStamp
+    void employeeLoaded(Employee employee, long readStamp);
+}
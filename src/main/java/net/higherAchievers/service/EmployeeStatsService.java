@@ -0,0 +1,17 @@
+package net.higherAchievers.service;
+
+import net.higherAchievers.entity.Employee;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface EmployeeStatsService {
+    Map<String, Long> countByEmailDomain(int limit);
+    Map<String, Long> countByLastName(int limit);
+    Map<LocalDate, Long> countByCreatedDate();
+    void employeeAdded(Employee employee);
+    void employeeRemoved(Employee employee);
+    // recounts every cached tenant in the background and corrects the counts that drifted;
+    // runs every app.stats.reconcile-interval
+    void reconcile();
+}
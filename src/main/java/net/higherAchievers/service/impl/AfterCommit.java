@@ -0,0 +1,38 @@
+package net.higherAchievers.service.impl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+// Runs in-memory updates once the surrounding transaction commits, so a rolled back change
+// never reaches them; without a transaction they run right away. Each update gets a stamp from
+// commits taken in beforeCommit: two transactions that locked the same row take theirs in commit
+// order, even when their afterCommit callbacks then run the other way round.
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(AtomicLong commits, LongConsumer update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private long commit;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    commit = commits.incrementAndGet();
+                }
+
+                @Override
+                public void afterCommit() {
+                    update.accept(commit);
+                }
+            });
+        } else {
+            update.accept(commits.incrementAndGet());
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package net.higherAchievers.service.impl;
+
+import net.higherAchievers.entity.EmployeeAudit;
+import net.higherAchievers.repository.EmployeeAuditRepository;
+import net.higherAchievers.service.EmployeeAuditService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EmployeeAuditServiceImpl implements EmployeeAuditService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final EmployeeAuditRepository employeeAuditRepository;
+
+    public EmployeeAuditServiceImpl(EmployeeAuditRepository employeeAuditRepository) {
+        this.employeeAuditRepository = employeeAuditRepository;
+    }
+
+    @Override
+    public Page<EmployeeAudit> getEmployeeHistory(long employeeId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "id"));
+        return employeeAuditRepository.findByEmployeeId(employeeId, pageRequest);
+    }
+
+}
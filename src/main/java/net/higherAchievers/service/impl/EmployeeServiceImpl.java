@@ -3,8 +3,12 @@ package net.higherAchievers.service.impl;
 import net.higherAchievers.entity.Employee;
 import net.higherAchievers.exception.ResourceNotFoundException;
 import net.higherAchievers.repository.EmployeeRepository;
+import net.higherAchievers.repository.StoredEmployee;
 import net.higherAchievers.service.EmployeeService;
+import net.higherAchievers.service.EmployeeSnapshotService;
+import net.higherAchievers.service.EmployeeStatsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,18 +18,32 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     EmployeeRepository employeeRepository;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    EmployeeStatsService employeeStatsService;
+
+    EmployeeSnapshotService employeeSnapshotService;
+
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeStatsService employeeStatsService,
+                               EmployeeSnapshotService employeeSnapshotService) {
         this.employeeRepository = employeeRepository;
+        this.employeeStatsService = employeeStatsService;
+        this.employeeSnapshotService = employeeSnapshotService;
     }
 
     @Override
+    @Transactional
     public Employee saveEmployee(Employee employee) {
 
         Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
         if (savedEmployee.isPresent()) {
             throw new ResourceNotFoundException("Employee already exists with given email: " + employee.getEmail());
         }
-        return employeeRepository.save(employee);
+        // ids are assigned by the database; saving a given id would merge into that row, whatever its tenant,
+        // and leave its replaced values in the stats, which a create only ever adds to
+        employee.setId(null);
+        Employee newEmployee = employeeRepository.save(employee);
+        employeeStatsService.employeeAdded(newEmployee);
+        employeeSnapshotService.employeeSaved(newEmployee);
+        return newEmployee;
     }
 
     @Override
@@ -35,17 +53,54 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     public Optional<Employee> getEmployeeById(long id) {
-        return employeeRepository.findById(id);
+        Optional<Employee> snapshotEmployee = employeeSnapshotService.findById(id);
+        if (snapshotEmployee.isPresent()) {
+            return snapshotEmployee;
+        }
+        long readStamp = employeeSnapshotService.readStamp();
+        Optional<Employee> employee = employeeRepository.findById(id);
+        employee.ifPresent(loaded -> employeeSnapshotService.employeeLoaded(loaded, readStamp));
+        return employee;
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeByEmail(String email) {
+        Optional<Employee> snapshotEmployee = employeeSnapshotService.findByEmail(email);
+        if (snapshotEmployee.isPresent()) {
+            return snapshotEmployee;
+        }
+        long readStamp = employeeSnapshotService.readStamp();
+        Optional<Employee> employee = employeeRepository.findByEmail(email);
+        employee.ifPresent(loaded -> employeeSnapshotService.employeeLoaded(loaded, readStamp));
+        return employee;
     }
 
+    // the stored row is locked until the save commits, so the stats never subtract the same old values twice;
+    // findStoredById is tenant filtered, so an employee of another tenant is never merged over
     @Override
+    @Transactional
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        Employee storedEmployee = Optional.ofNullable(updatedEmployee.getId())
+                .flatMap(employeeRepository::findStoredById)
+                .map(StoredEmployee::toEmployee)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Employee not found with given id: " + updatedEmployee.getId()));
+        Employee savedEmployee = employeeRepository.save(updatedEmployee);
+        employeeStatsService.employeeRemoved(storedEmployee);
+        employeeStatsService.employeeAdded(savedEmployee);
+        employeeSnapshotService.employeeSaved(savedEmployee);
+        return savedEmployee;
     }
 
     @Override
+    @Transactional
     public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+        // deleteById loads by primary key, which would reach employees of other tenants
+        employeeRepository.findStoredById(id).ifPresent(storedEmployee -> {
+            employeeRepository.deleteById(id);
+            employeeStatsService.employeeRemoved(storedEmployee.toEmployee());
+            employeeSnapshotService.employeeRemoved(id);
+        });
     }
 
 }
@@ -0,0 +1,217 @@
+package net.higherAchievers.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import net.higherAchievers.entity.Employee;
+import net.higherAchievers.service.EmployeeSnapshotService;
+import net.higherAchievers.snapshot.OffHeapEmployeeStore;
+import net.higherAchievers.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Read-through snapshot of all employees in an OffHeapEmployeeStore, patched on every mutation.
+@Service
+@DependsOn("entityManagerFactory")
+public class EmployeeSnapshotServiceImpl implements EmployeeSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSnapshotServiceImpl.class);
+
+    private static final int STAMP_STRIPES = 4096;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Path file;
+    private final DataSize initialCapacity;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private OffHeapEmployeeStore store;
+
+    // mutations counts every applied save or remove; changedAt holds, per stripe of ids, the count
+    // at its latest change and is guarded by the write lock
+    private final AtomicLong mutations = new AtomicLong();
+    private final long[] changedAt = new long[STAMP_STRIPES];
+
+    // commits stamps every mutation in commit order; patchedAt holds, per stripe, the stamp of its
+    // latest applied patch (a tombstone when that was a remove) and is guarded by the write lock
+    private final AtomicLong commits = new AtomicLong();
+    private final long[] patchedAt = new long[STAMP_STRIPES];
+
+    public EmployeeSnapshotServiceImpl(JdbcTemplate jdbcTemplate,
+                                       @Value("${app.snapshot.enabled:false}") boolean enabled,
+                                       @Value("${app.snapshot.file:}") String file,
+                                       @Value("${app.snapshot.initial-capacity:16MB}") DataSize initialCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.file = file.isBlank() ? null : Path.of(file);
+        this.initialCapacity = initialCapacity;
+    }
+
+    // built from the table, or mapped from the file written at the last shutdown when the table's
+    // fingerprint is unchanged
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        if (file != null && Files.exists(file)) {
+            try {
+                Path fingerprintFile = fingerprintFile();
+                if (Files.exists(fingerprintFile) && Files.readString(fingerprintFile).equals(fingerprint())) {
+                    store = OffHeapEmployeeStore.load(file);
+                    return;
+                }
+                log.info("Employee snapshot {} is stale, rebuilding it from the table", file);
+            } catch (IOException e) {
+                log.warn("Could not load employee snapshot {}, rebuilding it from the table", file, e);
+            }
+        }
+        OffHeapEmployeeStore built = new OffHeapEmployeeStore((int) Math.min(initialCapacity.toBytes(), Integer.MAX_VALUE));
+        jdbcTemplate.query("select id, first_name, last_name, email, created_at, tenant_id from employees", rs -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            built.put(Employee.builder()
+                    .id(rs.getLong("id"))
+                    .firstName(rs.getString("first_name"))
+                    .lastName(rs.getString("last_name"))
+                    .email(rs.getString("email"))
+                    .createdAt(createdAt == null ? null : createdAt.toLocalDateTime())
+                    .tenantId(rs.getString("tenant_id"))
+                    .build());
+        });
+        store = built;
+    }
+
+    @PreDestroy
+    public void persist() throws IOException {
+        if (store == null || file == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            // removed first, so a crash part way through leaves a snapshot that is rebuilt on startup
+            Path fingerprintFile = fingerprintFile();
+            Files.deleteIfExists(fingerprintFile);
+            String fingerprint = fingerprint();
+            store.persist(file);
+            Files.writeString(fingerprintFile, fingerprint);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Path fingerprintFile() {
+        return file.resolveSibling(file.getFileName() + ".fingerprint");
+    }
+
+    // changes with every insert, update and delete made through the application
+    private String fingerprint() {
+        return jdbcTemplate.queryForObject("select count(*), max(id), max(updated_at) from employees",
+                (rs, rowNum) -> rs.getLong(1) + ":" + rs.getLong(2) + ":" + rs.getTimestamp(3));
+    }
+
+    @Override
+    public Optional<Employee> findById(long id) {
+        if (store == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return store.findById(id)
+                    .filter(employee -> TenantContext.getTenantId().equals(employee.getTenantId()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        if (store == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return store.findByEmail(TenantContext.getTenantId(), email);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void employeeSaved(Employee employee) {
+        if (store == null || employee.getId() == null || employee.getTenantId() == null) {
+            return;
+        }
+        AfterCommit.run(commits, commit -> patch(employee.getId(), commit, () -> store.put(employee)));
+    }
+
+    @Override
+    public void employeeRemoved(long id) {
+        if (store == null) {
+            return;
+        }
+        AfterCommit.run(commits, commit -> patch(id, commit, () -> store.remove(id)));
+    }
+
+    // a patch older than its stripe's latest only evicts the id, so a late update can never bring back
+    // a deleted employee; the next read fills it
+    private void patch(long id, long commit, Runnable change) {
+        lock.writeLock().lock();
+        try {
+            changed(id);
+            int stripe = stripe(id);
+            if (commit > patchedAt[stripe]) {
+                patchedAt[stripe] = commit;
+                change.run();
+            } else {
+                store.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long readStamp() {
+        return mutations.get();
+    }
+
+    // dropped when its id changed after the row was read, so a slow reader can never put back an
+    // overwritten or deleted employee; ids sharing a stripe with a changed one are skipped too
+    @Override
+    public void employeeLoaded(Employee employee, long readStamp) {
+        if (store == null || employee.getId() == null || employee.getTenantId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (changedAt[stripe(employee.getId())] > readStamp || store.containsId(employee.getId())) {
+                return;
+            }
+            store.put(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void changed(long id) {
+        changedAt[stripe(id)] = mutations.incrementAndGet();
+    }
+
+    private static int stripe(long id) {
+        return (int) Math.floorMod(id ^ (id >>> 32), (long) STAMP_STRIPES);
+    }
+
+}
@@ -0,0 +1,319 @@
+package net.higherAchievers.service.impl;
+
+import net.higherAchievers.entity.Employee;
+import net.higherAchievers.repository.EmployeeCount;
+import net.higherAchievers.repository.EmployeeDailyCount;
+import net.higherAchievers.repository.EmployeeRepository;
+import net.higherAchievers.service.EmployeeStatsService;
+import net.higherAchievers.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Employee counts of each cached tenant, loaded with group by queries on the first read and then
+// adjusted on every EmployeeService mutation, so reading them never scans the table.
+@Service
+public class EmployeeStatsServiceImpl implements EmployeeStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeStatsServiceImpl.class);
+
+    private final EmployeeRepository employeeRepository;
+
+    // at most max-cached-tenants, least recently read dropped first; access ordered and guarded by itself.
+    // The counts, inFlight and loads are also updated under it, but no database call is made while holding it.
+    private final Map<String, TenantCounts> tenants;
+
+    // changes between beforeCommit and their completion, by tenant
+    private final Map<String, Set<Change>> inFlight = new HashMap<>();
+
+    // each records the changes of its tenant that commit while it runs
+    private final List<Load> loads = new ArrayList<>();
+
+    // first loads in progress, so concurrent first reads of a tenant run its group by queries once
+    private final Map<String, CompletableFuture<TenantCounts>> loading = new ConcurrentHashMap<>();
+
+    public EmployeeStatsServiceImpl(EmployeeRepository employeeRepository,
+                                    @Value("${app.tenancy.max-cached-tenants:256}") int maxCachedTenants) {
+        this.employeeRepository = employeeRepository;
+        this.tenants = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TenantCounts> eldest) {
+                return size() > maxCachedTenants;
+            }
+        };
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval:PT10M}",
+            initialDelayString = "${app.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        List<String> tenantIds;
+        synchronized (tenants) {
+            tenantIds = new ArrayList<>(tenants.keySet());
+        }
+        for (String tenantId : tenantIds) {
+            TenantContext.setTenantId(tenantId);
+            try {
+                load(tenantId);
+            } catch (RuntimeException e) {
+                log.warn("Could not reconcile the employee stats of tenant {}", tenantId, e);
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Long> countByEmailDomain(int limit) {
+        return top(currentTenant().emailDomains, limit);
+    }
+
+    @Override
+    public Map<String, Long> countByLastName(int limit) {
+        return top(currentTenant().lastNames, limit);
+    }
+
+    @Override
+    public Map<LocalDate, Long> countByCreatedDate() {
+        return new TreeMap<>(currentTenant().createdDates);
+    }
+
+    @Override
+    public void employeeAdded(Employee employee) {
+        adjustOnCommit(new Change(employee, 1));
+    }
+
+    @Override
+    public void employeeRemoved(Employee employee) {
+        adjustOnCommit(new Change(employee, -1));
+    }
+
+    // a rolled back change never reaches the counts; without a transaction the change has already committed
+    private void adjustOnCommit(Change change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (tenants) {
+                recordForLoads(change);
+                adjust(change);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (tenants) {
+                    inFlight.computeIfAbsent(change.tenantId, tenantId -> new HashSet<>()).add(change);
+                    recordForLoads(change);
+                }
+                committing = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!committing) {
+                    return;
+                }
+                synchronized (tenants) {
+                    Set<Change> changes = inFlight.get(change.tenantId);
+                    changes.remove(change);
+                    if (changes.isEmpty()) {
+                        inFlight.remove(change.tenantId);
+                    }
+                    if (status == STATUS_COMMITTED) {
+                        adjust(change);
+                    }
+                }
+            }
+        });
+    }
+
+    // guarded by tenants
+    private void recordForLoads(Change change) {
+        for (Load load : loads) {
+            if (load.tenantId.equals(change.tenantId)) {
+                load.changes.add(change);
+            }
+        }
+    }
+
+    // the group by queries read the current tenant, so only its counts can be loaded here
+    private TenantCounts currentTenant() {
+        String tenantId = TenantContext.getTenantId();
+        synchronized (tenants) {
+            TenantCounts counts = tenants.get(tenantId);
+            if (counts != null) {
+                return counts;
+            }
+        }
+        CompletableFuture<TenantCounts> load = new CompletableFuture<>();
+        CompletableFuture<TenantCounts> running = loading.putIfAbsent(tenantId, load);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            TenantCounts loaded = load(tenantId);
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(tenantId, load);
+        }
+    }
+
+    // counts the current tenant's employees and reconciles its cached counts with them, caching them if there are
+    // none. The keys of changes that committed during the count may or may not be in it, so they keep their
+    // adjusted counts and every other key takes the counted total; a first load takes the counted totals for all.
+    private TenantCounts load(String tenantId) {
+        Load load;
+        synchronized (tenants) {
+            load = new Load(tenantId, inFlight.getOrDefault(tenantId, Set.of()));
+            loads.add(load);
+        }
+        try {
+            TenantCounts counted = count();
+            synchronized (tenants) {
+                TenantCounts cached = tenants.get(tenantId);
+                if (cached == null) {
+                    tenants.put(tenantId, counted);
+                    return counted;
+                }
+                cached.reconcile(counted, load.changes);
+                return cached;
+            }
+        } finally {
+            synchronized (tenants) {
+                loads.remove(load);
+            }
+        }
+    }
+
+    private TenantCounts count() {
+        TenantCounts counts = new TenantCounts();
+        for (EmployeeCount count : employeeRepository.countByEmailDomain()) {
+            counts.emailDomains.put(count.getName(), count.getTotal());
+        }
+        for (EmployeeCount count : employeeRepository.countByLastName()) {
+            counts.lastNames.put(count.getName(), count.getTotal());
+        }
+        for (EmployeeDailyCount count : employeeRepository.countByCreatedDate()) {
+            counts.createdDates.put(count.getCreatedOn(), count.getTotal());
+        }
+        return counts;
+    }
+
+    // guarded by tenants; tenants that are not cached are skipped, their next read loads the committed state
+    private void adjust(Change change) {
+        TenantCounts counts = tenants.get(change.tenantId);
+        if (counts == null) {
+            return;
+        }
+        adjust(counts.emailDomains, change.emailDomain, change.delta);
+        adjust(counts.lastNames, change.lastName, change.delta);
+        if (change.createdOn != null) {
+            adjust(counts.createdDates, change.createdOn, change.delta);
+        }
+    }
+
+    // matches substring(email, locate('@', email) + 1) in EmployeeRepository.countByEmailDomain
+    private static String emailDomain(String email) {
+        return email.substring(email.indexOf('@') + 1);
+    }
+
+    private static <K> void adjust(Map<K, Long> counts, K key, long delta) {
+        counts.compute(key, (k, total) -> {
+            long updated = (total == null ? 0 : total) + delta;
+            return updated == 0 ? null : updated;
+        });
+    }
+
+    // a negative limit returns nothing rather than failing
+    private static Map<String, Long> top(Map<String, Long> counts, int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(Math.max(limit, 0))
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private static class TenantCounts {
+        private final Map<String, Long> emailDomains = new ConcurrentHashMap<>();
+        private final Map<String, Long> lastNames = new ConcurrentHashMap<>();
+        private final Map<LocalDate, Long> createdDates = new ConcurrentHashMap<>();
+
+        // takes the counted totals, except for the keys of changes that committed while they were counted
+        private void reconcile(TenantCounts counted, List<Change> changes) {
+            reconcile(emailDomains, counted.emailDomains,
+                    changes.stream().map(change -> change.emailDomain).collect(Collectors.toSet()));
+            reconcile(lastNames, counted.lastNames,
+                    changes.stream().map(change -> change.lastName).collect(Collectors.toSet()));
+            reconcile(createdDates, counted.createdDates,
+                    changes.stream().map(change -> change.createdOn).collect(Collectors.toSet()));
+        }
+
+        private static <K> void reconcile(Map<K, Long> cached, Map<K, Long> counted, Set<K> changed) {
+            cached.keySet().removeIf(key -> !changed.contains(key) && !counted.containsKey(key));
+            counted.forEach((key, total) -> {
+                if (!changed.contains(key)) {
+                    cached.put(key, total);
+                }
+            });
+        }
+    }
+
+    // compared by identity, so equal changes of two transactions are tracked separately
+    private static class Change {
+        private final String tenantId;
+        private final String emailDomain;
+        private final String lastName;
+        private final LocalDate createdOn;
+        private final long delta;
+
+        private Change(Employee employee, long delta) {
+            this.tenantId = employee.getTenantId();
+            this.emailDomain = emailDomain(employee.getEmail());
+            this.lastName = employee.getLastName();
+            this.createdOn = employee.getCreatedAt() == null ? null : employee.getCreatedAt().toLocalDate();
+            this.delta = delta;
+        }
+    }
+
+    // a load in progress and the changes of its tenant that were committing while it ran
+    private static class Load {
+        private final String tenantId;
+        private final List<Change> changes;
+
+        private Load(String tenantId, Set<Change> inFlight) {
+            this.tenantId = tenantId;
+            this.changes = new ArrayList<>(inFlight);
+        }
+    }
+
+}
@@ -0,0 +1,320 @@
+package net.higherAchievers.snapshot;
+
+import net.higherAchievers.entity.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+// Employees packed into one direct buffer outside the heap, so millions of them cost the GC
+// nothing but the two primitive indexes. Records are appended; an update or delete marks the
+// old record dead and the buffer is compacted once dead records make up half of it.
+// Not thread safe: callers guard reads and writes with a read/write lock.
+//
+// Record layout: int length | byte live | long id | long createdAt (epoch micros, UTC)
+//                | tenantId | firstName | lastName | email (each: unsigned short length + UTF-8)
+public class OffHeapEmployeeStore {
+
+    private static final int MAGIC = 0x454D504C;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private static final int LIVE_OFFSET = 4;
+    private static final int ID_OFFSET = 5;
+    private static final int CREATED_AT_OFFSET = 13;
+    private static final int STRINGS_OFFSET = 21;
+
+    private static final byte LIVE = 1;
+    private static final byte DEAD = 0;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final int MIN_COMPACTION_BYTES = 1 << 20;
+
+    private ByteBuffer arena;
+    private int used;
+    private int deadBytes;
+
+    private final LongLongHashMap byId;
+    private final LongLongHashMap byEmail;
+
+    public OffHeapEmployeeStore(int initialCapacityBytes) {
+        this(ByteBuffer.allocateDirect(Math.max(initialCapacityBytes, 1024)), 0);
+    }
+
+    private OffHeapEmployeeStore(ByteBuffer arena, int used) {
+        this.arena = arena;
+        this.used = used;
+        this.byId = new LongLongHashMap(1024);
+        this.byEmail = new LongLongHashMap(1024);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public void put(Employee employee) {
+        long existing = byId.get(employee.getId());
+        if (existing != LongLongHashMap.MISSING) {
+            kill((int) existing);
+        }
+
+        byte[] tenantId = utf8(employee.getTenantId());
+        byte[] firstName = utf8(employee.getFirstName());
+        byte[] lastName = utf8(employee.getLastName());
+        byte[] email = utf8(employee.getEmail());
+        int length = STRINGS_OFFSET + 8 + tenantId.length + firstName.length + lastName.length + email.length;
+        ensureCapacity(length);
+
+        int offset = used;
+        arena.putInt(offset, length);
+        arena.put(offset + LIVE_OFFSET, LIVE);
+        arena.putLong(offset + ID_OFFSET, employee.getId());
+        arena.putLong(offset + CREATED_AT_OFFSET, employee.getCreatedAt() == null
+                ? NO_TIMESTAMP
+                : ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), employee.getCreatedAt()));
+        int position = offset + STRINGS_OFFSET;
+        position = putString(position, tenantId);
+        position = putString(position, firstName);
+        position = putString(position, lastName);
+        putString(position, email);
+        used += length;
+
+        index(offset);
+        compactIfWasteful();
+    }
+
+    public boolean remove(long id) {
+        long offset = byId.remove(id);
+        if (offset == LongLongHashMap.MISSING) {
+            return false;
+        }
+        kill((int) offset);
+        compactIfWasteful();
+        return true;
+    }
+
+    public boolean containsId(long id) {
+        return byId.get(id) != LongLongHashMap.MISSING;
+    }
+
+    public Optional<Employee> findById(long id) {
+        long offset = byId.get(id);
+        return offset == LongLongHashMap.MISSING ? Optional.empty() : Optional.of(read((int) offset));
+    }
+
+    // a hash collision with another email is detected here and reported as a miss
+    public Optional<Employee> findByEmail(String tenantId, String email) {
+        long offset = byEmail.get(emailKey(tenantId, email));
+        if (offset == LongLongHashMap.MISSING) {
+            return Optional.empty();
+        }
+        Employee employee = read((int) offset);
+        if (!tenantId.equals(employee.getTenantId()) || !email.equals(employee.getEmail())) {
+            return Optional.empty();
+        }
+        return Optional.of(employee);
+    }
+
+    // written to a temporary file first, so a crash never leaves a torn snapshot behind
+    public void persist(Path file) throws IOException {
+        compact();
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(used)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer data = arena.duplicate().position(0).limit(used);
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // the file is mapped and used as the arena until it has to grow; a truncated or corrupt file
+    // fails with an IOException before any of it is indexed
+    public static OffHeapEmployeeStore load(Path file) throws IOException {
+        // copy-on-write mappings need a writable channel, although the file itself is never changed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not an employee snapshot: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.PRIVATE, 0, size);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new IOException("Not an employee snapshot: " + file);
+            }
+            long storedUsed = mapped.getLong(8);
+            if (storedUsed < 0 || storedUsed > size - HEADER_SIZE) {
+                throw new IOException("Truncated employee snapshot: " + file);
+            }
+            int used = (int) storedUsed;
+            OffHeapEmployeeStore store = new OffHeapEmployeeStore(mapped.slice(HEADER_SIZE, used), used);
+            for (int offset = 0; offset < used; offset += store.arena.getInt(offset)) {
+                store.checkRecord(offset, file);
+            }
+            for (int offset = 0; offset < used; offset += store.arena.getInt(offset)) {
+                if (store.arena.get(offset + LIVE_OFFSET) == LIVE) {
+                    store.index(offset);
+                }
+            }
+            return store;
+        }
+    }
+
+    // the record and its four strings must fit between offset and used
+    private void checkRecord(int offset, Path file) throws IOException {
+        if (used - offset < STRINGS_OFFSET + 8) {
+            throw corrupt(offset, file);
+        }
+        int length = arena.getInt(offset);
+        if (length < STRINGS_OFFSET + 8 || length > used - offset) {
+            throw corrupt(offset, file);
+        }
+        int position = offset + STRINGS_OFFSET;
+        for (int i = 0; i < 4; i++) {
+            if (position + 2 > offset + length) {
+                throw corrupt(offset, file);
+            }
+            position += 2 + stringLength(position);
+        }
+        if (position != offset + length) {
+            throw corrupt(offset, file);
+        }
+    }
+
+    private static IOException corrupt(int offset, Path file) {
+        return new IOException("Corrupt employee snapshot record at " + offset + ": " + file);
+    }
+
+    private void index(int offset) {
+        byId.put(arena.getLong(offset + ID_OFFSET), offset);
+        Employee employee = read(offset);
+        byEmail.put(emailKey(employee.getTenantId(), employee.getEmail()), offset);
+    }
+
+    private void kill(int offset) {
+        Employee employee = read(offset);
+        long emailKey = emailKey(employee.getTenantId(), employee.getEmail());
+        if (byEmail.get(emailKey) == offset) {
+            byEmail.remove(emailKey);
+        }
+        arena.put(offset + LIVE_OFFSET, DEAD);
+        deadBytes += arena.getInt(offset);
+    }
+
+    private Employee read(int offset) {
+        long createdAt = arena.getLong(offset + CREATED_AT_OFFSET);
+        int position = offset + STRINGS_OFFSET;
+        String tenantId = getString(position);
+        position += 2 + stringLength(position);
+        String firstName = getString(position);
+        position += 2 + stringLength(position);
+        String lastName = getString(position);
+        position += 2 + stringLength(position);
+        String email = getString(position);
+        return Employee.builder()
+                .id(arena.getLong(offset + ID_OFFSET))
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .createdAt(createdAt == NO_TIMESTAMP
+                        ? null
+                        : LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(createdAt, ChronoUnit.MICROS))
+                .tenantId(tenantId)
+                .build();
+    }
+
+    private void ensureCapacity(int length) {
+        if (used + length <= arena.capacity()) {
+            return;
+        }
+        long capacity = Math.max((long) arena.capacity() * 2, (long) used + length);
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+        grown.put(0, arena, 0, used);
+        arena = grown;
+    }
+
+    private void compactIfWasteful() {
+        if (deadBytes > MIN_COMPACTION_BYTES && deadBytes * 2L > used) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        if (deadBytes == 0) {
+            return;
+        }
+        ByteBuffer compacted = ByteBuffer.allocateDirect(Math.max(arena.capacity(), 1024));
+        int compactedUsed = 0;
+        for (int offset = 0; offset < used; offset += arena.getInt(offset)) {
+            int length = arena.getInt(offset);
+            if (arena.get(offset + LIVE_OFFSET) == LIVE) {
+                compacted.put(compactedUsed, arena, offset, length);
+                compactedUsed += length;
+            }
+        }
+        arena = compacted;
+        used = compactedUsed;
+        deadBytes = 0;
+        byId.clear();
+        byEmail.clear();
+        for (int offset = 0; offset < used; offset += arena.getInt(offset)) {
+            index(offset);
+        }
+    }
+
+    private int putString(int position, byte[] value) {
+        arena.putShort(position, (short) value.length);
+        arena.put(position + 2, value);
+        return position + 2 + value.length;
+    }
+
+    private int stringLength(int position) {
+        return arena.getShort(position) & 0xFFFF;
+    }
+
+    private String getString(int position) {
+        byte[] value = new byte[stringLength(position)];
+        arena.get(position + 2, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Value too long for the employee snapshot: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    // 64-bit FNV-1a over tenant and email; 0 is the empty slot of the index
+    private static long emailKey(String tenantId, String email) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < tenantId.length(); i++) {
+            hash = (hash ^ tenantId.charAt(i)) * 0x100000001B3L;
+        }
+        hash = (hash ^ '@') * 0x100000001B3L;
+        for (int i = 0; i < email.length(); i++) {
+            hash = (hash ^ email.charAt(i)) * 0x100000001B3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+}
@@ -0,0 +1,26 @@
+package net.higherAchievers.tenant;
+
+// Holds the tenant of the current request; requests without one belong to the default tenant.
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String getTenantId() {
+        String tenantId = CURRENT_TENANT.get();
+        return tenantId == null ? DEFAULT_TENANT : tenantId;
+    }
+
+    public static void setTenantId(String tenantId) {
+        CURRENT_TENANT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT_TENANT.remove();
+    }
+
+}
@@ -0,0 +1,144 @@
+package net.higherAchievers.tenant;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// Resolves the tenant from the request header and shares the connection pool fairly between tenants.
+// A tenant may run as many requests as the pool has room for; only once the pool is busy is it held
+// to its share, so an idle pool is never rationed and a busy one cannot be drained by a single tenant.
+@Component
+@ConditionalOnProperty(name = "app.tenancy.enabled", havingValue = "true")
+public class TenantFilter extends OncePerRequestFilter {
+
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final String header;
+    private final int poolSize;
+    private final int fairShare;
+    private final int maxConcurrentRequests;
+    private final Duration acquireTimeout;
+
+    // tenants with requests running or waiting, so header values cannot grow it beyond the
+    // number of concurrent requests; guarded by itself, like running
+    private final Map<String, TenantRequests> tenants = new HashMap<>();
+
+    private int running;
+
+    public TenantFilter(@Value("${app.tenancy.header:X-Tenant-ID}") String header,
+                        @Value("${app.tenancy.max-concurrent-requests:0}") int maxConcurrentRequests,
+                        @Value("${app.tenancy.fair-share-tenants:4}") int fairShareTenants,
+                        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                        @Value("${app.tenancy.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.header = header;
+        this.poolSize = poolSize;
+        this.fairShare = Math.max(1, poolSize / fairShareTenants);
+        this.maxConcurrentRequests = maxConcurrentRequests > 0 ? maxConcurrentRequests : Integer.MAX_VALUE;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String tenantId = request.getHeader(header);
+        if (tenantId == null || !TENANT_ID.matcher(tenantId).matches()) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Missing or invalid " + header + " header");
+            return;
+        }
+
+        TenantRequests tenantRequests = acquire(tenantId);
+        if (tenantRequests == null) {
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(),
+                    "Too many concurrent requests for tenant: " + tenantId);
+            return;
+        }
+        TenantContext.setTenantId(tenantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+            release(tenantId, tenantRequests);
+        }
+    }
+
+    // fair-share requests of a tenant always start, more only while the pool has room for them;
+    // returns null when the request could not start within acquire-timeout
+    private TenantRequests acquire(String tenantId) {
+        long deadline = System.nanoTime() + acquireTimeout.toNanos();
+        synchronized (tenants) {
+            TenantRequests tenantRequests = tenants.computeIfAbsent(tenantId, id -> new TenantRequests());
+            tenantRequests.users++;
+            try {
+                while (!mayStart(tenantRequests)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        leave(tenantId, tenantRequests);
+                        return null;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(tenants, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                leave(tenantId, tenantRequests);
+                return null;
+            }
+            tenantRequests.running++;
+            running++;
+            return tenantRequests;
+        }
+    }
+
+    private void release(String tenantId, TenantRequests tenantRequests) {
+        synchronized (tenants) {
+            tenantRequests.running--;
+            running--;
+            leave(tenantId, tenantRequests);
+            tenants.notifyAll();
+        }
+    }
+
+    // guarded by tenants
+    private boolean mayStart(TenantRequests tenantRequests) {
+        return tenantRequests.running < maxConcurrentRequests
+                && (tenantRequests.running < fairShare || running < poolSize);
+    }
+
+    // guarded by tenants
+    private void leave(String tenantId, TenantRequests tenantRequests) {
+        if (--tenantRequests.users == 0) {
+            tenants.remove(tenantId);
+        }
+    }
+
+    int fairShare() {
+        return fairShare;
+    }
+
+    // tenants with requests running or waiting
+    int trackedTenants() {
+        synchronized (tenants) {
+            return tenants.size();
+        }
+    }
+
+    // users counts the requests of a tenant that are running or waiting to start
+    private static class TenantRequests {
+        private int running;
+        private int users;
+    }
+
+}
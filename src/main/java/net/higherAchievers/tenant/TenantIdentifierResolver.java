@@ -0,0 +1,18 @@
+package net.higherAchievers.tenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+// Supplies the tenant for Employee.tenantId; registered through hibernate.tenant_identifier_resolver.
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.getTenantId();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+}
@@ -0,0 +1,86 @@
+package net.higherAchievers.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuditRingBufferTests {
+
+    // JUnit test for offer operation on a full buffer
+    @DisplayName("JUnit test for offer operation on a full buffer")
+    @Test
+    public void givenFullBuffer_whenOffer_thenRejectUntilDrained() {
+        // given - precondition or setup
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when - action or the behaviour to be tested
+        boolean offeredWhileFull = buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained::add, 2);
+        boolean offeredAfterDrain = buffer.offer(4);
+
+        // then - verify the output
+        assertThat(offeredWhileFull).isFalse();
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(offeredAfterDrain).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    // JUnit test for offer operation from concurrent producers
+    @DisplayName("JUnit test for offer operation from concurrent producers")
+    @Test
+    public void givenConcurrentProducers_whenOffer_thenConsumerSeesEveryValueOnce() throws Exception {
+        // given - precondition or setup
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when - action or the behaviour to be tested
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            tasks.add(executor.submit(() -> {
+                for (int i = first; i < first + perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        Set<Integer> consumed = new HashSet<>();
+        List<Integer> duplicates = new ArrayList<>();
+        while (consumed.size() < producers * perProducer) {
+            int drained = buffer.drainTo(value -> {
+                if (!consumed.add(value)) {
+                    duplicates.add(value);
+                }
+            }, 32);
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+
+        // then - verify the output
+        assertThat(duplicates).isEmpty();
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+
+}
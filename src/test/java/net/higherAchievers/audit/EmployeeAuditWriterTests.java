@@ -0,0 +1,125 @@
+package net.higherAchievers.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.higherAchievers.entity.EmployeeAudit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeAuditWriterTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // JUnit test for stop method while producers are still appending
+    @DisplayName("JUnit test for stop method while producers are still appending")
+    @Test
+    public void givenConcurrentAppends_whenStop_thenEveryChangeIsWrittenOrCounted() throws Exception {
+        // given - precondition or setup
+        AtomicLong written = new AtomicLong();
+        given(jdbcTemplate.batchUpdate(anyString(), ArgumentMatchers.<Collection<EmployeeChange>>any(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<EmployeeChange>>any())).willAnswer(invocation -> {
+            written.addAndGet(invocation.<Collection<?>>getArgument(1).size());
+            return new int[0][];
+        });
+        EmployeeAuditWriter writer = new EmployeeAuditWriter(jdbcTemplate, transactionManager, new ObjectMapper(),
+                64, 16, Duration.ofMillis(5), Duration.ofMillis(1), Duration.ofSeconds(5));
+        writer.start();
+        AtomicLong appended = new AtomicLong();
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    writer.append(new EmployeeChange(i, "default", EmployeeAudit.Action.UPDATE, LocalDateTime.now(),
+                            Map.of()));
+                    appended.incrementAndGet();
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+
+        // when - action or the behaviour to be tested
+        Thread.sleep(5);
+        writer.stop();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // then - verify the output
+        assertThat(written.get() + writer.droppedChanges()).isEqualTo(appended.get());
+    }
+
+    // JUnit test for flush method
+    @DisplayName("JUnit test for flush method")
+    @Test
+    public void givenBufferedChanges_whenFlush_thenChangesAreWritten() throws Exception {
+        // given - precondition or setup
+        AtomicLong written = new AtomicLong();
+        given(jdbcTemplate.batchUpdate(anyString(), ArgumentMatchers.<Collection<EmployeeChange>>any(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<EmployeeChange>>any())).willAnswer(invocation -> {
+            written.addAndGet(invocation.<Collection<?>>getArgument(1).size());
+            return new int[0][];
+        });
+        EmployeeAuditWriter writer = new EmployeeAuditWriter(jdbcTemplate, transactionManager, new ObjectMapper(),
+                64, 16, Duration.ofHours(1), Duration.ofMillis(50), Duration.ofSeconds(5));
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.append(new EmployeeChange(i, "default", EmployeeAudit.Action.CREATE, LocalDateTime.now(),
+                    Map.of()));
+        }
+
+        // when - action or the behaviour to be tested
+        boolean flushed = writer.flush(Duration.ofSeconds(5));
+
+        // then - verify the output
+        assertThat(flushed).isTrue();
+        assertThat(written.get()).isEqualTo(3);
+        writer.stop();
+    }
+
+    // JUnit test for append method after stop when the write fails
+    @DisplayName("JUnit test for append method after stop when the write fails")
+    @Test
+    public void givenStoppedWriterAndFailingDatabase_whenAppend_thenChangeIsCountedAsDropped() throws Exception {
+        // given - precondition or setup
+        EmployeeAuditWriter writer = new EmployeeAuditWriter(jdbcTemplate, transactionManager, new ObjectMapper(),
+                64, 16, Duration.ofHours(1), Duration.ofMillis(50), Duration.ofSeconds(5));
+        writer.start();
+        writer.stop();
+        given(jdbcTemplate.batchUpdate(anyString(), ArgumentMatchers.<Collection<EmployeeChange>>any(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<EmployeeChange>>any()))
+                .willThrow(new DataAccessResourceFailureException("database is down"));
+
+        // when - action or the behaviour to be tested
+        writer.append(new EmployeeChange(1, "default", EmployeeAudit.Action.DELETE, LocalDateTime.now(), Map.of()));
+
+        // then - verify the output
+        assertThat(writer.droppedChanges()).isEqualTo(1);
+    }
+
+}
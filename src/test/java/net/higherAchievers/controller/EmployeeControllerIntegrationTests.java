@@ -0,0 +1,181 @@
+package net.higherAchievers.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.higherAchievers.entity.Employee;
+import net.higherAchievers.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Same configuration as SpringBootTestingApplicationTests, so the cached context is reused.
+// @Transactional rolls back the generated data after each test. Other classes sharing the context
+// may have rows of their own in the table, so assertions only count the rows generated here.
+@SpringBootTest
+@Transactional
+public class EmployeeControllerIntegrationTests {
+
+    private static final int GENERATED_EMPLOYEES = 500;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    private List<Employee> savedEmployees;
+
+    private Set<String> generatedEmails;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        List<Employee> employees = new ArrayList<>(GENERATED_EMPLOYEES);
+        for (int i = 0; i < GENERATED_EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + (i % 50))
+                    .email("employee" + i + "@company" + (i % 10) + ".com")
+                    .build());
+        }
+        savedEmployees = employeeRepository.saveAll(employees);
+        generatedEmails = savedEmployees.stream().map(Employee::getEmail).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    // Integration test for Get All employees REST API
+    @DisplayName("Integration test for Get All employees REST API")
+    @Test
+    public void givenGeneratedEmployees_whenGetAllEmployees_thenReturnEmployeesList() throws Exception {
+        // given - precondition or setup
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees"));
+
+        // then - verify the output
+        response.andExpect(status().isOk());
+        Employee[] employees = objectMapper.readValue(response.andReturn().getResponse().getContentAsString(),
+                Employee[].class);
+        assertThat(Arrays.stream(employees).map(Employee::getEmail).filter(generatedEmails::contains))
+                .hasSize(GENERATED_EMPLOYEES);
+
+    }
+
+    // Integration test for GET employee by id REST API
+    @DisplayName("Integration test for GET employee by id REST API")
+    @Test
+    public void givenGeneratedEmployees_whenGetEmployeeById_thenReturnEmployeeObject() throws Exception {
+        // given - precondition or setup
+        for (int i = 0; i < GENERATED_EMPLOYEES; i += 97) {
+            Employee employee = savedEmployees.get(i);
+
+            // when - action or the behaviour to be tested
+            ResultActions response = mockMvc.perform(get("/api/employees/{id}", employee.getId()));
+
+            // then - verify the output
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.firstName", is(employee.getFirstName())))
+                    .andExpect(jsonPath("$.lastName", is(employee.getLastName())))
+                    .andExpect(jsonPath("$.email", is(employee.getEmail())));
+        }
+
+    }
+
+    // Integration test for create employee REST API
+    @DisplayName("Integration test for create employee REST API")
+    @Test
+    public void givenEmployeeObject_whenCreateEmployee_thenEmployeeIsFoundByEmail() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("Moses")
+                .lastName("Hunsu")
+                .email("moses@yahoo.com")
+                .build();
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the output
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+        assertThat(employeeRepository.findByEmail(employee.getEmail())).isPresent();
+        generatedEmails.add(employee.getEmail());
+        assertThat(generatedRows()).isEqualTo(GENERATED_EMPLOYEES + 1);
+
+    }
+
+    // Integration test for update employee REST API
+    @DisplayName("Integration test for update employee REST API")
+    @Test
+    public void givenUpdatedEmployee_whenUpdateEmployee_thenReturnUpdateEmployeeObject() throws Exception {
+        // given - precondition or setup
+        long employeeId = savedEmployees.get(GENERATED_EMPLOYEES / 2).getId();
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Favour")
+                .lastName("Attah")
+                .email("favour@gmail.com")
+                .build();
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(put("/api/employees?id={employeeId}", employeeId)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is(updatedEmployee.getFirstName())))
+                .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())));
+        assertThat(employeeRepository.findByEmail(updatedEmployee.getEmail())).isPresent();
+
+    }
+
+    // Integration test for delete employee REST API
+    @DisplayName("Integration test for delete employee REST API")
+    @Test
+    public void givenEmployeeId_whenDeleteEmployee_thenEmployeeIsRemoved() throws Exception {
+        // given - precondition or setup
+        long employeeId = savedEmployees.get(0).getId();
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(delete("/api/employees?id={employeeId}", employeeId));
+
+        // then - verify the output
+        response.andExpect(status().isOk());
+        assertThat(employeeRepository.findById(employeeId)).isEmpty();
+        assertThat(generatedRows()).isEqualTo(GENERATED_EMPLOYEES - 1);
+
+    }
+
+    private long generatedRows() {
+        return employeeRepository.findAll().stream()
+                .filter(employee -> generatedEmails.contains(employee.getEmail()))
+                .count();
+    }
+
+}
@@ -0,0 +1,341 @@
+package net.higherAchievers.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.higherAchievers.entity.Employee;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Load and soak test for the employee REST API, excluded from the default build.
+// Run with: mvn test -Pload-test -Dload.duration=PT4H -Dload.p99ThresholdMillis=100
+// Latency distribution, per-interval throughput, heap and GC samples are written to target/load-test.
+// Requests are sent at a fixed load.rate and timed from when they were due rather than when they were
+// sent, so a server stall shows up as the queueing delay it causes instead of as fewer samples.
+// Creates and deletes are balanced and creates turn into deletes above load.maxEmployees, so the
+// table, and with it every list response, stays the same size however long the soak runs.
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class EmployeeControllerLoadTests {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int employees = Integer.getInteger("load.employees", 1000);
+    private final int maxEmployees = Integer.getInteger("load.maxEmployees", 2 * employees);
+    private final int threads = Integer.getInteger("load.threads", 16);
+    private final int rate = Integer.getInteger("load.rate", 250);
+    private final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT15S"));
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT2M"));
+    private final Duration reportInterval = Duration.parse(System.getProperty("load.reportInterval", "PT10S"));
+    private final Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix",
+            "create:10,get:60,list:5,update:15,delete:10"));
+    private final long p99ThresholdMillis = Long.getLong("load.p99ThresholdMillis", 250);
+    private final Path reportDir = Path.of(System.getProperty("load.reportDir", "target/load-test"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LiveIds liveIds = new LiveIds();
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // requests due from here on are recorded
+    private volatile long measureFrom = Long.MAX_VALUE;
+
+    // Load test for the employee REST API under a sustained create/get/list/update/delete mix
+    @DisplayName("Load test for the employee REST API")
+    @Test
+    public void givenSeededEmployees_whenRunningOperationMix_thenP99StaysBelowThreshold() throws Exception {
+        // given - precondition or setup
+        Files.createDirectories(reportDir);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Object>> seeders = new ArrayList<>(employees);
+            for (int i = 0; i < employees; i++) {
+                seeders.add(Executors.callable(() -> createEmployee(System.nanoTime())));
+            }
+            workers.invokeAll(seeders);
+
+            // when - action or the behaviour to be tested
+            long start = System.nanoTime();
+            long warmupEnd = start + warmup.toNanos();
+            long end = warmupEnd + duration.toNanos();
+            measureFrom = warmupEnd;
+            // each worker sends every period, staggered so that together they send rate requests a second;
+            // the schedule restarts after the warmup so a backlog from the cold start is not measured
+            long period = TimeUnit.SECONDS.toNanos(threads) / rate;
+            for (int i = 0; i < threads; i++) {
+                long offset = i * period / threads;
+                workers.execute(() -> {
+                    pace(start + offset, period, warmupEnd);
+                    pace(Math.max(System.nanoTime(), warmupEnd) + offset, period, end);
+                });
+            }
+            workers.shutdown();
+
+            Histogram total = sampleUntilDone(workers, warmupEnd);
+
+            // then - verify the output
+            try (PrintStream out = new PrintStream(reportDir.resolve("latency.hgrm").toFile())) {
+                total.outputPercentileDistribution(out, 1000.0);
+            }
+            double p99Millis = total.getValueAtPercentile(99.0) / 1000.0;
+            String summary = String.format("requests=%d target=%d/s throughput=%.1f/s p50=%.2fms p99=%.2fms p99.9=%.2fms "
+                            + "max=%.2fms errors=%d misses=%d",
+                    total.getTotalCount(), rate, total.getTotalCount() / (double) duration.toSeconds(),
+                    total.getValueAtPercentile(50.0) / 1000.0, p99Millis,
+                    total.getValueAtPercentile(99.9) / 1000.0, total.getMaxValue() / 1000.0,
+                    errors.get(), misses.get());
+            Files.writeString(reportDir.resolve("summary.txt"), summary + System.lineSeparator());
+            System.out.println(summary);
+
+            assertThat(errors.get()).isZero();
+            assertThat(total.getTotalCount()).isGreaterThan(0);
+            assertThat(p99Millis).isLessThanOrEqualTo(p99ThresholdMillis);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    // Samples latency, heap and GC once per report interval until the workers finish.
+    private Histogram sampleUntilDone(ExecutorService workers, long warmupEnd) throws Exception {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+        try (PrintWriter timeline = new PrintWriter(Files.newBufferedWriter(reportDir.resolve("timeline.csv")))) {
+            timeline.println("elapsed_s,requests,throughput_per_s,p50_ms,p99_ms,max_ms,heap_used_mb,gc_count,gc_time_ms");
+            long gcCount = gcCount(collectors);
+            long gcTime = gcTime(collectors);
+            long intervalStart = System.nanoTime();
+
+            boolean done = false;
+            while (!done) {
+                done = workers.awaitTermination(reportInterval.toMillis(), TimeUnit.MILLISECONDS);
+                long now = System.nanoTime();
+                Histogram interval = recorder.getIntervalHistogram();
+                if (now < warmupEnd) {
+                    intervalStart = now;
+                    continue;
+                }
+                total.add(interval);
+
+                long currentGcCount = gcCount(collectors);
+                long currentGcTime = gcTime(collectors);
+                double seconds = (now - intervalStart) / 1e9;
+                timeline.printf("%.1f,%d,%.1f,%.2f,%.2f,%.2f,%d,%d,%d%n",
+                        (now - warmupEnd) / 1e9, interval.getTotalCount(), interval.getTotalCount() / seconds,
+                        interval.getValueAtPercentile(50.0) / 1000.0, interval.getValueAtPercentile(99.0) / 1000.0,
+                        interval.getMaxValue() / 1000.0, memory.getHeapMemoryUsage().getUsed() / (1024 * 1024),
+                        currentGcCount - gcCount, currentGcTime - gcTime);
+                timeline.flush();
+
+                gcCount = currentGcCount;
+                gcTime = currentGcTime;
+                intervalStart = now;
+            }
+        }
+        return total;
+    }
+
+    // sends one request every period until end, falling behind rather than skipping when the server stalls
+    private void pace(long first, long period, long end) {
+        for (long due = first; due < end && System.nanoTime() < end; due += period) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            execute(nextOperation(), due);
+        }
+    }
+
+    // due is when the request should have been sent; latency is measured from there
+    private void execute(Operation operation, long due) {
+        if (operation == Operation.CREATE && liveIds.size() >= maxEmployees) {
+            operation = Operation.DELETE;
+        }
+        switch (operation) {
+            case CREATE -> createEmployee(due);
+            case GET -> liveIds.random().ifPresent(id ->
+                    send(HttpRequest.newBuilder(uri("/api/employees/" + id)).GET(), due));
+            case LIST -> send(HttpRequest.newBuilder(uri("/api/employees")).GET(), due);
+            // updates take the id out of the pool so no delete or other update races them
+            case UPDATE -> liveIds.remove().ifPresent(id -> {
+                send(HttpRequest.newBuilder(uri("/api/employees?id=" + id))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(json(newEmployee()))), due);
+                liveIds.add(id);
+            });
+            case DELETE -> liveIds.remove().ifPresent(id ->
+                    send(HttpRequest.newBuilder(uri("/api/employees?id=" + id)).DELETE(), due));
+        }
+    }
+
+    private void createEmployee(long due) {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/employees"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(newEmployee()))), due);
+        if (response != null && response.statusCode() == 201) {
+            try {
+                liveIds.add(objectMapper.readValue(response.body(), Employee.class).getId());
+            } catch (IOException e) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request, long due) {
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            long micros = (System.nanoTime() - due) / 1000;
+            if (due >= measureFrom) {
+                recorder.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            }
+            if (response.statusCode() == 404) {
+                // a concurrent delete removed the employee between picking and requesting it
+                misses.incrementAndGet();
+            } else if (response.statusCode() >= 400) {
+                errors.incrementAndGet();
+            }
+            return response;
+        } catch (IOException e) {
+            errors.incrementAndGet();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private Employee newEmployee() {
+        long n = emailSequence.incrementAndGet();
+        return Employee.builder()
+                .firstName("First" + n)
+                .lastName("Last" + (n % 100))
+                .email("employee" + n + "@company" + (n % 20) + ".com")
+                .build();
+    }
+
+    private String json(Employee employee) {
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Operation nextOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        int cumulative = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            cumulative += entry.getValue();
+            if (roll < cumulative) {
+                return entry.getKey();
+            }
+        }
+        return Operation.GET;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        int sum = 0;
+        for (String part : mix.split(",")) {
+            String[] weight = part.trim().split(":");
+            weights.put(Operation.valueOf(weight[0].toUpperCase()), Integer.parseInt(weight[1]));
+            sum += Integer.parseInt(weight[1]);
+        }
+        if (sum != 100) {
+            throw new IllegalArgumentException("load.mix weights must add up to 100: " + mix);
+        }
+        return weights;
+    }
+
+    private static long gcCount(List<GarbageCollectorMXBean> collectors) {
+        return collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcTime(List<GarbageCollectorMXBean> collectors) {
+        return collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private enum Operation {
+        CREATE, GET, LIST, UPDATE, DELETE
+    }
+
+    // Ids of employees that exist on the server, picked at random by the workers.
+    private static class LiveIds {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        synchronized int size() {
+            return ids.size();
+        }
+
+        synchronized void add(long id) {
+            ids.add(id);
+        }
+
+        synchronized Optional<Long> random() {
+            if (ids.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+        }
+
+        synchronized Optional<Long> remove() {
+            if (ids.isEmpty()) {
+                return Optional.empty();
+            }
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            long id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return Optional.of(id);
+        }
+    }
+
+}
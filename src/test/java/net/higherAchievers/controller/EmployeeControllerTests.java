@@ -2,16 +2,22 @@ package net.higherAchievers.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import net.higherAchievers.entity.Employee;
+import net.higherAchievers.entity.EmployeeAudit;
+import net.higherAchievers.service.EmployeeAuditService;
 import net.higherAchievers.service.EmployeeService;
+import net.higherAchievers.service.EmployeeStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.LocalDateTime;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+// Declares the same mocks as EmployeeStatsControllerTests, so both reuse one cached context.
 @WebMvcTest
 public class EmployeeControllerTests {
 
@@ -35,6 +42,12 @@ public class EmployeeControllerTests {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeStatsService employeeStatsService;
+
+    @MockBean
+    private EmployeeAuditService employeeAuditService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -132,6 +145,54 @@ public class EmployeeControllerTests {
 
     }
 
+    // JUnit test for GET employee by email REST API
+    @DisplayName("JUnit test for GET employee by email REST API")
+    @Test
+    public void givenEmployeeEmail_whenGetEmployeeByEmail_thenReturnEmployeeObject() throws Exception {
+        // given - precondition or setup
+        given(employeeService.getEmployeeByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees").param("email", employee.getEmail()));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.firstName", is(employee.getFirstName())))
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+
+    }
+
+    // JUnit test for GET employee history REST API
+    @DisplayName("JUnit test for GET employee history REST API")
+    @Test
+    public void givenEmployeeId_whenGetEmployeeHistory_thenReturnPageOfChanges() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        EmployeeAudit audit = EmployeeAudit.builder()
+                .id(2L)
+                .employeeId(employeeId)
+                .action(EmployeeAudit.Action.UPDATE)
+                .changedAt(LocalDateTime.of(2023, 9, 1, 10, 0))
+                .changes("{\"email\":{\"before\":\"moses@yahoo.com\",\"after\":\"moses@gmail.com\"}}")
+                .build();
+        given(employeeAuditService.getEmployeeHistory(employeeId, 0, 5))
+                .willReturn(new PageImpl<>(List.of(audit), PageRequest.of(0, 5), 1));
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}/history", employeeId)
+                .param("page", "0")
+                .param("size", "5"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.totalElements", is(1)))
+                .andExpect(jsonPath("$.content[0].action", is("UPDATE")))
+                .andExpect(jsonPath("$.content[0].changes.email.after", is("moses@gmail.com")));
+
+    }
+
     // JUnit test for update employee REST API - positive scenario
     @DisplayName("JUnit test for update employee REST API - positive scenario")
     @Test
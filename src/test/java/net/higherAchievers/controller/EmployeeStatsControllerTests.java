@@ -0,0 +1,99 @@
+package net.higherAchievers.controller;
+
+import net.higherAchievers.service.EmployeeAuditService;
+import net.higherAchievers.service.EmployeeService;
+import net.higherAchievers.service.EmployeeStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Same slice and mocks as EmployeeControllerTests, so the cached context is reused.
+@WebMvcTest
+public class EmployeeStatsControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private EmployeeStatsService employeeStatsService;
+
+    @MockBean
+    private EmployeeAuditService employeeAuditService;
+
+    // JUnit test for employee count by email domain REST API
+    @DisplayName("JUnit test for employee count by email domain REST API")
+    @Test
+    public void givenDomainCounts_whenCountByEmailDomain_thenReturnCounts() throws Exception {
+        // given - precondition or setup
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("gmail.com", 3L);
+        counts.put("yahoo.com", 1L);
+        given(employeeStatsService.countByEmailDomain(5)).willReturn(counts);
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/stats/email-domains?limit={limit}", 5));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$['gmail.com']", is(3)));
+
+    }
+
+    // JUnit test for employee count by last name REST API
+    @DisplayName("JUnit test for employee count by last name REST API")
+    @Test
+    public void givenLastNameCounts_whenCountByLastName_thenReturnCounts() throws Exception {
+        // given - precondition or setup
+        given(employeeStatsService.countByLastName(100)).willReturn(Map.of("Hunsu", 2L));
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/stats/last-names"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.Hunsu", is(2)));
+
+    }
+
+    // JUnit test for employee growth REST API
+    @DisplayName("JUnit test for employee growth REST API")
+    @Test
+    public void givenDailyCounts_whenCountByCreatedDate_thenReturnCountsPerDay() throws Exception {
+        // given - precondition or setup
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        counts.put(LocalDate.of(2023, 9, 1), 4L);
+        given(employeeStatsService.countByCreatedDate()).willReturn(counts);
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/stats/growth"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$['2023-09-01']", is(4)));
+
+    }
+
+}
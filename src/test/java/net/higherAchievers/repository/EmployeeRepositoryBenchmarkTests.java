@@ -0,0 +1,249 @@
+package net.higherAchievers.repository;
+
+import net.higherAchievers.SpringBootTestingApplication;
+import net.higherAchievers.entity.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Benchmark of every EmployeeRepository lookup under the default configuration, under each group of prod
+// profile settings on its own, and under the whole prod profile; excluded from the default build.
+// Run with: mvn test -Pbenchmark
+// Each query runs from several threads at once, so pool checkout and statement preparation both count.
+// Every configuration runs benchmark.rounds times, in a rotating order; the first round only warms the JVM
+// and the median of the others counts. The report gives default ops/s and the change each configuration makes to it.
+// open-in-view only acts inside web requests, so its column shows how far this run's noise goes.
+// Only a run against the database the profile targets proves anything, and only such a run fails when the
+// prod profile is slower than default on a query by more than that noise:
+// -Dbenchmark.url=jdbc:mysql://host/db -Dbenchmark.username=... -Dbenchmark.password=...
+// The schema is created and dropped by each run, so point it at a scratch database. Without a url it runs
+// on in-process H2, which has no network round trips and ignores the MySQL statement cache; those numbers
+// only show that the benchmark works and are no basis for keeping or dropping a setting.
+@Tag("benchmark")
+public class EmployeeRepositoryBenchmarkTests {
+
+    // every setting of application-prod.properties, grouped by what it tunes
+    private static final Map<String, List<String>> PROD_SETTINGS = new LinkedHashMap<>();
+
+    static {
+        PROD_SETTINGS.put("pool", List.of(
+                "spring.datasource.hikari.pool-name",
+                "spring.datasource.hikari.maximum-pool-size",
+                "spring.datasource.hikari.minimum-idle",
+                "spring.datasource.hikari.connection-timeout",
+                "spring.datasource.hikari.max-lifetime",
+                "spring.datasource.hikari.keepalive-time"));
+        PROD_SETTINGS.put("auto-commit", List.of(
+                "spring.datasource.hikari.auto-commit",
+                "spring.jpa.properties.hibernate.connection.provider_disables_autocommit"));
+        PROD_SETTINGS.put("stmt-cache", List.of(
+                "spring.datasource.hikari.data-source-properties.cachePrepStmts",
+                "spring.datasource.hikari.data-source-properties.prepStmtCacheSize",
+                "spring.datasource.hikari.data-source-properties.prepStmtCacheSqlLimit",
+                "spring.datasource.hikari.data-source-properties.useServerPrepStmts"));
+        PROD_SETTINGS.put("open-in-view", List.of(
+                "spring.jpa.open-in-view"));
+    }
+
+    private final int employees = Integer.getInteger("benchmark.employees", 1000);
+    private final int threads = Integer.getInteger("benchmark.threads", 8);
+    private final int rounds = Integer.getInteger("benchmark.rounds", 4);
+    private final int warmupIterations = Integer.getInteger("benchmark.warmupIterations", 2000);
+    private final int iterations = Integer.getInteger("benchmark.iterations", 5000);
+    private final Path reportDir = Path.of(System.getProperty("benchmark.reportDir", "target/benchmark"));
+    private final String url = System.getProperty("benchmark.url", "");
+    private final String username = System.getProperty("benchmark.username", "");
+    private final String password = System.getProperty("benchmark.password", "");
+
+    // Benchmark of the EmployeeRepository queries under each prod setting and the whole prod profile
+    @DisplayName("Benchmark of the EmployeeRepository queries under each prod setting and the whole prod profile")
+    @Test
+    public void givenEachProdSetting_whenRunningEachQuery_thenReportThroughput() throws Exception {
+        // given - precondition or setup
+        // a setting added to the profile must be benchmarked before it ships
+        Properties prod = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-prod.properties"));
+        assertThat(PROD_SETTINGS.values().stream().flatMap(List::stream))
+                .containsExactlyInAnyOrderElementsOf(prod.stringPropertyNames());
+        Map<String, Map<String, Object>> configurations = new LinkedHashMap<>();
+        configurations.put("default", Map.of());
+        PROD_SETTINGS.forEach((name, keys) -> {
+            Map<String, Object> settings = new LinkedHashMap<>();
+            keys.forEach(key -> settings.put(key, prod.getProperty(key)));
+            configurations.put(name, settings);
+        });
+        configurations.put("prod", Map.of());
+        Map<String, Map<String, List<Double>>> samples = new LinkedHashMap<>();
+        configurations.keySet().forEach(name -> samples.put(name, new LinkedHashMap<>()));
+
+        // when - action or the behaviour to be tested
+        // each round starts one configuration later, so none is always measured right after the same one
+        List<String> order = new ArrayList<>(configurations.keySet());
+        for (int round = 0; round < rounds; round++) {
+            for (String name : order) {
+                SpringApplicationBuilder application = new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                        .web(WebApplicationType.NONE)
+                        .properties(configurations.get(name))
+                        .properties(datasource());
+                if (name.equals("prod")) {
+                    application.profiles("prod");
+                }
+                Map<String, Double> results;
+                try (ConfigurableApplicationContext context = application.run()) {
+                    EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+                    seed(employeeRepository);
+                    results = measure(queries(employeeRepository));
+                }
+                // collect the closed context now rather than during the next configuration's measurement
+                System.gc();
+                if (round > 0) {
+                    results.forEach((query, ops) ->
+                            samples.get(name).computeIfAbsent(query, key -> new ArrayList<>()).add(ops));
+                }
+            }
+            Collections.rotate(order, -1);
+        }
+        Map<String, Map<String, Double>> throughput = new LinkedHashMap<>();
+        samples.forEach((name, results) -> {
+            throughput.put(name, new LinkedHashMap<>());
+            results.forEach((query, ops) -> throughput.get(name).put(query, median(ops)));
+        });
+
+        // then - verify the output
+        StringBuilder report = new StringBuilder(String.format("database: %s, median of %d rounds%n",
+                url.isBlank() ? "in-process H2 (not the prod target, proves nothing about the profile)" : url,
+                rounds - 1));
+        report.append(String.format("%-28s", "query"));
+        throughput.keySet().forEach(name -> report.append(String.format(" %12s", name)));
+        report.append(System.lineSeparator());
+        Map<String, Double> baseline = throughput.get("default");
+        for (String query : baseline.keySet()) {
+            report.append(String.format("%-28s %8.0f ops", query, baseline.get(query)));
+            throughput.forEach((name, results) -> {
+                if (!name.equals("default")) {
+                    double change = (results.get(query) - baseline.get(query)) / baseline.get(query) * 100;
+                    report.append(String.format(" %+11.1f%%", change));
+                }
+            });
+            report.append(System.lineSeparator());
+        }
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("repository-queries.txt"), report);
+        System.out.print(report);
+
+        throughput.values().forEach(results -> assertThat(results.values()).allMatch(ops -> ops > 0));
+        if (!url.isBlank()) {
+            double noise = baseline.keySet().stream()
+                    .mapToDouble(query -> Math.abs(throughput.get("open-in-view").get(query) / baseline.get(query) - 1))
+                    .max().orElse(0);
+            baseline.forEach((query, ops) -> assertThat(throughput.get("prod").get(query))
+                    .as("prod profile throughput of %s", query)
+                    .isGreaterThanOrEqualTo(ops * (1 - noise)));
+        }
+    }
+
+    private Map<String, Object> datasource() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        if (!url.isBlank()) {
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.username", username);
+            properties.put("spring.datasource.password", password);
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        }
+        return properties;
+    }
+
+    private Map<String, IntConsumer> queries(EmployeeRepository repository) {
+        Map<String, IntConsumer> queries = new LinkedHashMap<>();
+        queries.put("findByJPQL", i -> check(repository.findByJPQL("First" + i, "Last" + i)));
+        queries.put("findByJPQLNamedParams", i -> check(repository.findByJPQLNamedParams("First" + i, "Last" + i)));
+        queries.put("findByNativeSQL", i -> check(repository.findByNativeSQL("First" + i, "Last" + i)));
+        queries.put("findByNativeSQLNamedParams",
+                i -> check(repository.findByNativeSQLNamedParams("First" + i, "Last" + i)));
+        queries.put("findByEmail", i -> check(repository.findByEmail(email(i)).orElse(null)));
+        return queries;
+    }
+
+    private Map<String, Double> measure(Map<String, IntConsumer> queries) throws Exception {
+        Map<String, Double> results = new LinkedHashMap<>();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            for (Map.Entry<String, IntConsumer> query : queries.entrySet()) {
+                run(workers, query.getValue(), warmupIterations);
+                long start = System.nanoTime();
+                run(workers, query.getValue(), iterations);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                results.put(query.getKey(), (double) threads * iterations / seconds);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return results;
+    }
+
+    private void run(ExecutorService workers, IntConsumer query, int iterationsPerThread)
+            throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    query.accept(ThreadLocalRandom.current().nextInt(employees));
+                }
+                return null;
+            });
+        }
+        for (Future<Void> task : workers.invokeAll(tasks)) {
+            task.get();
+        }
+    }
+
+    private void seed(EmployeeRepository employeeRepository) {
+        List<Employee> seeded = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            seeded.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email(email(i))
+                    .build());
+        }
+        employeeRepository.saveAll(seeded);
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = values.stream().sorted().toList();
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static String email(int i) {
+        return "employee" + i + "@company.com";
+    }
+
+    private static void check(Employee employee) {
+        if (employee == null) {
+            throw new IllegalStateException("Seeded employee not found");
+        }
+    }
+
+}
@@ -206,4 +206,82 @@ public class EmployeeRepositoryTest {
 
     }
 
+    // JUnit test for counting employees per email domain using native SQL group by
+    @DisplayName("JUnit test for counting employees per email domain using native SQL group by")
+    @Test
+    public void givenEmployeesList_whenCountByEmailDomain_thenReturnCountsPerDomain() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        employeeRepository.save(Employee.builder().firstName("Favour").lastName("Attah").email("favour@gmail.com").build());
+        employeeRepository.save(Employee.builder().firstName("John").lastName("Hunsu").email("john@gmail.com").build());
+
+        // when - action or the behaviour to be tested
+        List<EmployeeCount> counts = employeeRepository.countByEmailDomain();
+
+        // then - verify the output
+        assertThat(counts).hasSize(2);
+        assertThat(counts.get(0).getName()).isEqualTo("gmail.com");
+        assertThat(counts.get(0).getTotal()).isEqualTo(2);
+        assertThat(counts.get(1).getName()).isEqualTo("yahoo.com");
+        assertThat(counts.get(1).getTotal()).isEqualTo(1);
+
+    }
+
+    // JUnit test for counting employees per last name using native SQL group by
+    @DisplayName("JUnit test for counting employees per last name using native SQL group by")
+    @Test
+    public void givenEmployeesList_whenCountByLastName_thenReturnCountsPerLastName() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        employeeRepository.save(Employee.builder().firstName("Favour").lastName("Attah").email("favour@gmail.com").build());
+        employeeRepository.save(Employee.builder().firstName("John").lastName("Hunsu").email("john@gmail.com").build());
+
+        // when - action or the behaviour to be tested
+        List<EmployeeCount> counts = employeeRepository.countByLastName();
+
+        // then - verify the output
+        assertThat(counts).hasSize(2);
+        assertThat(counts.get(0).getName()).isEqualTo("Hunsu");
+        assertThat(counts.get(0).getTotal()).isEqualTo(2);
+
+    }
+
+    // JUnit test for counting employees created per day using native SQL group by
+    @DisplayName("JUnit test for counting employees created per day using native SQL group by")
+    @Test
+    public void givenEmployeesList_whenCountByCreatedDate_thenReturnCountsPerDay() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        employeeRepository.save(Employee.builder().firstName("Favour").lastName("Attah").email("favour@gmail.com").build());
+
+        // when - action or the behaviour to be tested
+        List<EmployeeDailyCount> counts = employeeRepository.countByCreatedDate();
+
+        // then - verify the output
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0).getCreatedOn()).isEqualTo(employee.getCreatedAt().toLocalDate());
+        assertThat(counts.get(0).getTotal()).isEqualTo(2);
+
+    }
+
+    // JUnit test for reading the stored employee without flushing pending changes
+    @DisplayName("JUnit test for reading the stored employee without flushing pending changes")
+    @Test
+    public void givenModifiedEmployee_whenFindStoredById_thenReturnStoredValues() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+        employee.setEmail("hunsu@gmail.com");
+
+        // when - action or the behaviour to be tested
+        StoredEmployee storedEmployee = employeeRepository.findStoredById(employee.getId()).get();
+
+        // then - verify the output
+        assertThat(storedEmployee.getEmail()).isEqualTo("moses@yahoo.com");
+        assertThat(storedEmployee.toEmployee())
+                .usingRecursiveComparison()
+                .ignoringFields("email", "updatedAt")
+                .isEqualTo(employee);
+
+    }
+
 }
@@ -0,0 +1,113 @@
+package net.higherAchievers.service;
+
+import net.higherAchievers.audit.EmployeeAuditWriter;
+import net.higherAchievers.entity.Employee;
+import net.higherAchievers.entity.EmployeeAudit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not @Transactional: changes are only audited once they commit, and written by a background thread.
+// The context is shared with other classes, so each test deletes the rows it committed.
+@SpringBootTest
+public class EmployeeAuditServiceTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeAuditService employeeAuditService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmployeeAuditWriter employeeAuditWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employee employee;
+
+    private Long savedEmployeeId;
+
+    @BeforeEach
+    public void setup() {
+        employee = Employee.builder()
+                .firstName("Moses")
+                .lastName("Hunsu")
+                .email(UUID.randomUUID() + "@yahoo.com")
+                .build();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (savedEmployeeId == null) {
+            return;
+        }
+        employeeAuditWriter.flush(Duration.ofSeconds(5));
+        jdbcTemplate.update("delete from employee_audit where employee_id = ?", savedEmployeeId);
+        jdbcTemplate.update("delete from employees where id = ?", savedEmployeeId);
+    }
+
+    // Integration test for getEmployeeHistory method after create, update and delete
+    @DisplayName("Integration test for getEmployeeHistory method after create, update and delete")
+    @Test
+    public void givenCreatedUpdatedAndDeletedEmployee_whenGetEmployeeHistory_thenReturnNewestChangeFirst() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+        savedEmployeeId = savedEmployee.getId();
+        Employee storedEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+        String oldEmail = storedEmployee.getEmail();
+        storedEmployee.setEmail("moses@gmail.com");
+        employeeService.updateEmployee(storedEmployee);
+        employeeService.deleteEmployee(savedEmployee.getId());
+
+        // when - action or the behaviour to be tested
+        assertThat(employeeAuditWriter.flush(Duration.ofSeconds(5))).isTrue();
+        Page<EmployeeAudit> history = employeeAuditService.getEmployeeHistory(savedEmployee.getId(), 0, 20);
+
+        // then - verify the output
+        assertThat(history.getTotalElements()).isEqualTo(3);
+        assertThat(history.getContent()).extracting(EmployeeAudit::getAction).containsExactly(
+                EmployeeAudit.Action.DELETE, EmployeeAudit.Action.UPDATE, EmployeeAudit.Action.CREATE);
+        assertThat(history.getContent().get(1).getChanges())
+                .isEqualTo("{\"email\":{\"before\":\"" + oldEmail + "\",\"after\":\"moses@gmail.com\"}}");
+        assertThat(history.getContent().get(2).getChanges()).contains("\"firstName\":{\"before\":null,\"after\":\"Moses\"}");
+    }
+
+    // Integration test for getEmployeeHistory method after a rolled back change
+    @DisplayName("Integration test for getEmployeeHistory method after a rolled back change")
+    @Test
+    public void givenRolledBackUpdate_whenGetEmployeeHistory_thenReturnOnlyCommittedChanges() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+        savedEmployeeId = savedEmployee.getId();
+        transactionTemplate.executeWithoutResult(status -> {
+            Employee storedEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+            storedEmployee.setLastName("Rolled Back");
+            employeeService.updateEmployee(storedEmployee);
+            status.setRollbackOnly();
+        });
+
+        // when - action or the behaviour to be tested
+        assertThat(employeeAuditWriter.flush(Duration.ofSeconds(5))).isTrue();
+        Page<EmployeeAudit> history = employeeAuditService.getEmployeeHistory(savedEmployee.getId(), 0, 20);
+
+        // then - verify the output
+        assertThat(history.getContent()).extracting(EmployeeAudit::getAction)
+                .containsExactly(EmployeeAudit.Action.CREATE);
+    }
+
+}
@@ -3,6 +3,7 @@ package net.higherAchievers.service;
 import net.higherAchievers.entity.Employee;
 import net.higherAchievers.exception.ResourceNotFoundException;
 import net.higherAchievers.repository.EmployeeRepository;
+import net.higherAchievers.repository.StoredEmployee;
 import net.higherAchievers.service.impl.EmployeeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,12 +13,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
@@ -28,6 +31,12 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeStatsService employeeStatsService;
+
+    @Mock
+    private EmployeeSnapshotService employeeSnapshotService;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -143,6 +152,7 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenUpdateEmployee_thenReturnUpdatedEmployee() {
         // given - precondition or setup
+        given(employeeRepository.findStoredById(1L)).willReturn(Optional.of(stored(employee)));
         given(employeeRepository.save(employee)).willReturn(employee);
         employee.setEmail("hunsu@gmail.com");
         employee.setFirstName("Mos");
@@ -155,12 +165,29 @@ public class EmployeeServiceTests {
         assertThat(updatedEmployee.getFirstName().equals("Mos")).isTrue();
     }
 
+    // JUnit test for updateEmployee method with an id outside the current tenant
+    @DisplayName("JUnit test for updateEmployee method with an id outside the current tenant")
+    @Test
+    public void givenUnknownEmployeeId_whenUpdateEmployee_thenThrowsException() {
+        // given - precondition or setup
+        given(employeeRepository.findStoredById(1L)).willReturn(Optional.empty());
+
+        // when - action or the behaviour to be tested
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.updateEmployee(employee);
+        });
+
+        // then - verify the output
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
     // JUnit test for deleteEmployee method
     @DisplayName("JUnit test for deleteEmployee method")
     @Test
     public void givenEmployeeId_whenDeleteEmployee_thenNothing() {
         // given - precondition or setup
         long employeeId = 1L;
+        given(employeeRepository.findStoredById(employeeId)).willReturn(Optional.of(stored(employee)));
         willDoNothing().given(employeeRepository).deleteById(employeeId);
 
         // when - action or the behaviour to be tested
@@ -170,4 +197,124 @@ public class EmployeeServiceTests {
         verify(employeeRepository, times(1)).deleteById(employeeId);
     }
 
+    // JUnit test for updateEmployee method keeping the employee stats in step
+    @DisplayName("JUnit test for updateEmployee method keeping the employee stats in step")
+    @Test
+    public void givenStoredEmployee_whenUpdateEmployee_thenReplaceInStats() {
+        // given - precondition or setup
+        Employee storedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("Moses")
+                .lastName("Hunsu")
+                .email("moses@gmail.com")
+                .build();
+        given(employeeRepository.findStoredById(1L)).willReturn(Optional.of(stored(storedEmployee)));
+        given(employeeRepository.save(employee)).willReturn(employee);
+        employee.setEmail("hunsu@yahoo.com");
+
+        // when - action or the behaviour to be tested
+        employeeService.updateEmployee(employee);
+
+        // then - verify the output
+        verify(employeeStatsService, times(1))
+                .employeeRemoved(argThat(removed -> removed.getEmail().equals("moses@gmail.com")));
+        verify(employeeStatsService, times(1)).employeeAdded(employee);
+    }
+
+    // JUnit test for deleteEmployee method keeping the employee stats in step
+    @DisplayName("JUnit test for deleteEmployee method keeping the employee stats in step")
+    @Test
+    public void givenStoredEmployee_whenDeleteEmployee_thenRemoveFromStats() {
+        // given - precondition or setup
+        given(employeeRepository.findStoredById(1L)).willReturn(Optional.of(stored(employee)));
+
+        // when - action or the behaviour to be tested
+        employeeService.deleteEmployee(1L);
+
+        // then - verify the output
+        verify(employeeRepository, times(1)).deleteById(1L);
+        verify(employeeStatsService, times(1))
+                .employeeRemoved(argThat(removed -> removed.getId().equals(employee.getId())));
+    }
+
+    // JUnit test for deleteEmployee method with an id outside the current tenant
+    @DisplayName("JUnit test for deleteEmployee method with an id outside the current tenant")
+    @Test
+    public void givenUnknownEmployeeId_whenDeleteEmployee_thenNothingIsDeleted() {
+        // given - precondition or setup
+        given(employeeRepository.findStoredById(2L)).willReturn(Optional.empty());
+
+        // when - action or the behaviour to be tested
+        employeeService.deleteEmployee(2L);
+
+        // then - verify the output
+        verify(employeeRepository, never()).deleteById(anyLong());
+        verify(employeeStatsService, never()).employeeRemoved(any(Employee.class));
+    }
+
+    // JUnit test for getEmployeeById method served from the snapshot
+    @DisplayName("JUnit test for getEmployeeById method served from the snapshot")
+    @Test
+    public void givenEmployeeInSnapshot_whenGetEmployeeById_thenSkipRepository() {
+        // given - precondition or setup
+        given(employeeSnapshotService.findById(1L)).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour to be tested
+        Employee savedEmployee = employeeService.getEmployeeById(1L).get();
+
+        // then - verify the output
+        assertThat(savedEmployee).isSameAs(employee);
+        verify(employeeRepository, never()).findById(anyLong());
+    }
+
+    // JUnit test for getEmployeeByEmail method reading through the snapshot
+    @DisplayName("JUnit test for getEmployeeByEmail method reading through the snapshot")
+    @Test
+    public void givenEmployeeNotInSnapshot_whenGetEmployeeByEmail_thenLoadIntoSnapshot() {
+        // given - precondition or setup
+        given(employeeSnapshotService.findByEmail(employee.getEmail())).willReturn(Optional.empty());
+        given(employeeRepository.findByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour to be tested
+        Employee savedEmployee = employeeService.getEmployeeByEmail(employee.getEmail()).get();
+
+        // then - verify the output
+        assertThat(savedEmployee).isSameAs(employee);
+        verify(employeeSnapshotService, times(1)).employeeLoaded(employee, 0L);
+    }
+
+    private static StoredEmployee stored(Employee employee) {
+        return new StoredEmployee() {
+            @Override
+            public Long getId() {
+                return employee.getId();
+            }
+
+            @Override
+            public String getFirstName() {
+                return employee.getFirstName();
+            }
+
+            @Override
+            public String getLastName() {
+                return employee.getLastName();
+            }
+
+            @Override
+            public String getEmail() {
+                return employee.getEmail();
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return employee.getCreatedAt();
+            }
+
+            @Override
+            public String getTenantId() {
+                return employee.getTenantId();
+            }
+        };
+    }
+
 }
@@ -0,0 +1,203 @@
+package net.higherAchievers.service;
+
+import net.higherAchievers.entity.Employee;
+import net.higherAchievers.service.impl.EmployeeSnapshotServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not @Transactional: the snapshot is only patched once a change commits.
+@SpringBootTest(properties = "app.snapshot.enabled=true")
+public class EmployeeSnapshotServiceTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeSnapshotService employeeSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employee = Employee.builder()
+                .firstName("Moses")
+                .lastName("Hunsu")
+                .email(UUID.randomUUID() + "@yahoo.com")
+                .build();
+    }
+
+    // Integration test for saveEmployee method patching the snapshot
+    @DisplayName("Integration test for saveEmployee method patching the snapshot")
+    @Test
+    public void givenEmployeeObject_whenSaveEmployee_thenSnapshotHoldsEmployee() {
+        // given - precondition or setup
+        // when - action or the behaviour to be tested
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+
+        // then - verify the output
+        Employee snapshotEmployee = employeeSnapshotService.findById(savedEmployee.getId()).get();
+        assertThat(snapshotEmployee.getEmail()).isEqualTo(employee.getEmail());
+        assertThat(employeeSnapshotService.findByEmail(employee.getEmail())).isPresent();
+    }
+
+    // Integration test for updateEmployee method patching the snapshot
+    @DisplayName("Integration test for updateEmployee method patching the snapshot")
+    @Test
+    public void givenSavedEmployee_whenUpdateEmployee_thenSnapshotHoldsNewValues() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+        Employee snapshotEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+        snapshotEmployee.setFirstName("Mos");
+
+        // when - action or the behaviour to be tested
+        employeeService.updateEmployee(snapshotEmployee);
+
+        // then - verify the output
+        assertThat(employeeSnapshotService.findById(savedEmployee.getId()).get().getFirstName()).isEqualTo("Mos");
+        assertThat(employeeService.getEmployeeById(savedEmployee.getId()).get().getFirstName()).isEqualTo("Mos");
+    }
+
+    // Integration test for deleteEmployee method patching the snapshot
+    @DisplayName("Integration test for deleteEmployee method patching the snapshot")
+    @Test
+    public void givenSavedEmployee_whenDeleteEmployee_thenSnapshotDropsEmployee() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+
+        // when - action or the behaviour to be tested
+        employeeService.deleteEmployee(savedEmployee.getId());
+
+        // then - verify the output
+        assertThat(employeeSnapshotService.findById(savedEmployee.getId())).isEmpty();
+        assertThat(employeeService.getEmployeeById(savedEmployee.getId())).isEmpty();
+    }
+
+    // Integration test for a read-through fill that read the employee before an update
+    @DisplayName("Integration test for a read-through fill that read the employee before an update")
+    @Test
+    public void givenFillReadBeforeUpdate_whenEmployeeLoaded_thenStaleEmployeeIsNotFilled() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+        long readStamp = employeeSnapshotService.readStamp();
+        Employee staleEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+        Employee updatedEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+        updatedEmployee.setFirstName("Mos");
+        employeeService.updateEmployee(updatedEmployee);
+        employeeSnapshotService.employeeRemoved(savedEmployee.getId());
+
+        // when - action or the behaviour to be tested
+        employeeSnapshotService.employeeLoaded(staleEmployee, readStamp);
+
+        // then - verify the output
+        assertThat(employeeSnapshotService.findById(savedEmployee.getId())).isEmpty();
+        assertThat(employeeService.getEmployeeById(savedEmployee.getId()).get().getFirstName()).isEqualTo("Mos");
+    }
+
+    // Integration test for a read-through fill that read the employee before a delete
+    @DisplayName("Integration test for a read-through fill that read the employee before a delete")
+    @Test
+    public void givenFillReadBeforeDelete_whenEmployeeLoaded_thenEmployeeStaysDeleted() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+        long readStamp = employeeSnapshotService.readStamp();
+        Employee staleEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+        employeeService.deleteEmployee(savedEmployee.getId());
+
+        // when - action or the behaviour to be tested
+        employeeSnapshotService.employeeLoaded(staleEmployee, readStamp);
+
+        // then - verify the output
+        assertThat(employeeSnapshotService.findById(savedEmployee.getId())).isEmpty();
+        assertThat(employeeService.getEmployeeById(savedEmployee.getId())).isEmpty();
+    }
+
+    // Integration test for an update whose after-commit patch runs after a later delete's
+    @DisplayName("Integration test for an update whose after-commit patch runs after a later delete's")
+    @Test
+    public void givenUpdatePatchDelayed_whenDeleteCommitsLater_thenEmployeeStaysDeleted() throws Exception {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+        Employee updatedEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+        updatedEmployee.setFirstName("Mos");
+        CountDownLatch updateCommitted = new CountDownLatch(1);
+        CountDownLatch releaseUpdatePatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> update = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            // registered first, so the snapshot's own afterCommit waits behind it
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updateCommitted.countDown();
+                    try {
+                        releaseUpdatePatch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            employeeService.updateEmployee(updatedEmployee);
+        }));
+        assertThat(updateCommitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or the behaviour to be tested
+        employeeService.deleteEmployee(savedEmployee.getId());
+        releaseUpdatePatch.countDown();
+        update.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then - verify the output
+        assertThat(employeeSnapshotService.findById(savedEmployee.getId())).isEmpty();
+        assertThat(employeeService.getEmployeeById(savedEmployee.getId())).isEmpty();
+    }
+
+    // Integration test for loading a persisted snapshot after the table changed with the same row count
+    @DisplayName("Integration test for loading a persisted snapshot after the table changed with the same row count")
+    @Test
+    public void givenUpdateAfterPersist_whenLoad_thenSnapshotIsRebuilt(@TempDir Path directory) throws IOException {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee);
+        String file = directory.resolve("employees.snapshot").toString();
+        EmployeeSnapshotServiceImpl persisted = new EmployeeSnapshotServiceImpl(jdbcTemplate, true, file,
+                DataSize.ofMegabytes(1));
+        persisted.load();
+        persisted.persist();
+        Employee updatedEmployee = employeeService.getEmployeeById(savedEmployee.getId()).get();
+        updatedEmployee.setFirstName("Mos");
+        employeeService.updateEmployee(updatedEmployee);
+
+        // when - action or the behaviour to be tested
+        EmployeeSnapshotServiceImpl restarted = new EmployeeSnapshotServiceImpl(jdbcTemplate, true, file,
+                DataSize.ofMegabytes(1));
+        restarted.load();
+
+        // then - verify the output
+        assertThat(restarted.findById(savedEmployee.getId()).get().getFirstName()).isEqualTo("Mos");
+    }
+
+}
@@ -0,0 +1,231 @@
+package net.higherAchievers.service;
+
+import net.higherAchievers.entity.Employee;
+import net.higherAchievers.repository.EmployeeCount;
+import net.higherAchievers.repository.EmployeeDailyCount;
+import net.higherAchievers.repository.EmployeeRepository;
+import net.higherAchievers.service.impl.EmployeeStatsServiceImpl;
+import net.higherAchievers.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeStatsServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeStatsServiceImpl employeeStatsService;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employeeStatsService = new EmployeeStatsServiceImpl(employeeRepository, 256);
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Moses")
+                .lastName("Hunsu")
+                .email("moses@gmail.com")
+                .createdAt(LocalDateTime.of(2023, 9, 1, 10, 0))
+                .tenantId(TenantContext.DEFAULT_TENANT)
+                .build();
+    }
+
+    // JUnit test for loading the counts with group by queries on first read
+    @DisplayName("JUnit test for loading the counts with group by queries on first read")
+    @Test
+    public void givenGroupedCounts_whenFirstRead_thenReturnCounts() {
+        // given - precondition or setup
+        given(employeeRepository.countByEmailDomain())
+                .willReturn(List.of(count("gmail.com", 3), count("yahoo.com", 1)));
+        given(employeeRepository.countByLastName()).willReturn(List.of(count("Hunsu", 4)));
+        given(employeeRepository.countByCreatedDate()).willReturn(List.of(dailyCount(LocalDate.of(2023, 9, 1), 4)));
+
+        // when - action or the behaviour to be tested
+        // then - verify the output
+        assertThat(employeeStatsService.countByEmailDomain(1)).containsExactly(entry("gmail.com", 3L));
+        assertThat(employeeStatsService.countByLastName(10)).containsExactly(entry("Hunsu", 4L));
+        assertThat(employeeStatsService.countByCreatedDate()).containsExactly(entry(LocalDate.of(2023, 9, 1), 4L));
+    }
+
+    // JUnit test for employeeAdded method
+    @DisplayName("JUnit test for employeeAdded method")
+    @Test
+    public void givenEmployeeObject_whenEmployeeAdded_thenCountsIncrease() {
+        // given - precondition or setup
+        assertThat(employeeStatsService.countByEmailDomain(10)).isEmpty();
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Favour")
+                .lastName("Attah")
+                .email("favour@gmail.com")
+                .createdAt(LocalDateTime.of(2023, 9, 2, 10, 0))
+                .tenantId(TenantContext.DEFAULT_TENANT)
+                .build();
+
+        // when - action or the behaviour to be tested
+        employeeStatsService.employeeAdded(employee);
+        employeeStatsService.employeeAdded(employee1);
+
+        // then - verify the output
+        assertThat(employeeStatsService.countByEmailDomain(10)).containsExactly(entry("gmail.com", 2L));
+        assertThat(employeeStatsService.countByLastName(10))
+                .containsExactly(entry("Attah", 1L), entry("Hunsu", 1L));
+        assertThat(employeeStatsService.countByCreatedDate())
+                .containsExactly(entry(LocalDate.of(2023, 9, 1), 1L), entry(LocalDate.of(2023, 9, 2), 1L));
+    }
+
+    // JUnit test for employeeRemoved method
+    @DisplayName("JUnit test for employeeRemoved method")
+    @Test
+    public void givenAddedEmployee_whenEmployeeRemoved_thenCountsAreEmpty() {
+        // given - precondition or setup
+        assertThat(employeeStatsService.countByEmailDomain(10)).isEmpty();
+        employeeStatsService.employeeAdded(employee);
+
+        // when - action or the behaviour to be tested
+        employeeStatsService.employeeRemoved(employee);
+
+        // then - verify the output
+        assertThat(employeeStatsService.countByEmailDomain(10)).isEmpty();
+        assertThat(employeeStatsService.countByLastName(10)).isEmpty();
+        assertThat(employeeStatsService.countByCreatedDate()).isEmpty();
+    }
+
+    // JUnit test for employeeAdded method of a tenant whose counts are not cached
+    @DisplayName("JUnit test for employeeAdded method of a tenant whose counts are not cached")
+    @Test
+    public void givenUncachedTenant_whenEmployeeAdded_thenCountsAreLoadedOnRead() {
+        // given - precondition or setup
+        given(employeeRepository.countByEmailDomain()).willReturn(List.of(count("gmail.com", 1)));
+
+        // when - action or the behaviour to be tested
+        employeeStatsService.employeeAdded(employee);
+
+        // then - verify the output
+        assertThat(employeeStatsService.countByEmailDomain(10)).containsExactly(entry("gmail.com", 1L));
+    }
+
+    // JUnit test for employeeAdded method while the counts are loading
+    @DisplayName("JUnit test for employeeAdded method while the counts are loading")
+    @Test
+    public void givenLoadInProgress_whenEmployeeAdded_thenCommitDoesNotWaitAndReconcileCorrectsCounts() throws Exception {
+        // given - precondition or setup
+        // the load sees one employee, and a second one commits while it runs
+        Thread committer = new Thread(() -> employeeStatsService.employeeAdded(employee));
+        boolean[] committedDuringLoad = new boolean[1];
+        given(employeeRepository.countByEmailDomain()).willAnswer(invocation -> {
+            committer.start();
+            committer.join(5000);
+            committedDuringLoad[0] = !committer.isAlive();
+            return List.of(count("gmail.com", 1));
+        }).willReturn(List.of(count("gmail.com", 2)));
+        employeeStatsService.countByEmailDomain(10);
+
+        // when - action or the behaviour to be tested
+        employeeStatsService.reconcile();
+
+        // then - verify the output
+        assertThat(committedDuringLoad[0]).isTrue();
+        assertThat(employeeStatsService.countByEmailDomain(10)).containsExactly(entry("gmail.com", 2L));
+    }
+
+    // JUnit test for reconcile method correcting drifted counts in place
+    @DisplayName("JUnit test for reconcile method correcting drifted counts in place")
+    @Test
+    public void givenDriftedCounts_whenReconcile_thenCountsAreCorrectedWithoutReloadOnRead() {
+        // given - precondition or setup
+        given(employeeRepository.countByEmailDomain())
+                .willReturn(List.of(count("gmail.com", 1), count("yahoo.com", 1)))
+                .willReturn(List.of(count("gmail.com", 3)));
+        employeeStatsService.countByEmailDomain(10);
+
+        // when - action or the behaviour to be tested
+        employeeStatsService.reconcile();
+
+        // then - verify the output
+        assertThat(employeeStatsService.countByEmailDomain(10)).containsExactly(entry("gmail.com", 3L));
+        verify(employeeRepository, times(2)).countByEmailDomain();
+    }
+
+    // JUnit test for reconcile method while a change commits
+    @DisplayName("JUnit test for reconcile method while a change commits")
+    @Test
+    public void givenChangeDuringReconcile_whenReconcile_thenChangedKeysKeepTheirCounts() {
+        // given - precondition or setup
+        // the recount runs while a gmail.com employee commits, so only its count for gmail.com is uncertain
+        given(employeeRepository.countByEmailDomain())
+                .willReturn(List.of(count("gmail.com", 1), count("yahoo.com", 1)))
+                .willAnswer(invocation -> {
+                    employeeStatsService.employeeAdded(employee);
+                    return List.of(count("gmail.com", 5), count("yahoo.com", 4));
+                });
+        employeeStatsService.countByEmailDomain(10);
+
+        // when - action or the behaviour to be tested
+        employeeStatsService.reconcile();
+
+        // then - verify the output
+        assertThat(employeeStatsService.countByEmailDomain(10))
+                .containsExactly(entry("yahoo.com", 4L), entry("gmail.com", 2L));
+    }
+
+    // JUnit test for countByEmailDomain method with a negative limit
+    @DisplayName("JUnit test for countByEmailDomain method with a negative limit")
+    @Test
+    public void givenNegativeLimit_whenCountByEmailDomain_thenReturnEmptyCounts() {
+        // given - precondition or setup
+        given(employeeRepository.countByEmailDomain()).willReturn(List.of(count("gmail.com", 1)));
+
+        // when - action or the behaviour to be tested
+        Map<String, Long> counts = employeeStatsService.countByEmailDomain(-1);
+
+        // then - verify the output
+        assertThat(counts).isEmpty();
+    }
+
+    private static EmployeeCount count(String name, long total) {
+        return new EmployeeCount() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private static EmployeeDailyCount dailyCount(LocalDate day, long total) {
+        return new EmployeeDailyCount() {
+            @Override
+            public LocalDate getCreatedOn() {
+                return day;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,206 @@
+package net.higherAchievers.snapshot;
+
+import net.higherAchievers.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapEmployeeStoreTests {
+
+    private OffHeapEmployeeStore store;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        store = new OffHeapEmployeeStore(1024);
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Moses")
+                .lastName("Hunsu")
+                .email("moses@gmail.com")
+                .createdAt(LocalDateTime.of(2023, 9, 1, 10, 0, 0, 123_456_000))
+                .tenantId("default")
+                .build();
+    }
+
+    // JUnit test for put and findById operation
+    @DisplayName("JUnit test for put and findById operation")
+    @Test
+    public void givenEmployeeObject_whenPut_thenFindByIdReturnsCopy() {
+        // given - precondition or setup
+        // when - action or the behaviour to be tested
+        store.put(employee);
+        Employee storedEmployee = store.findById(1L).get();
+
+        // then - verify the output
+        assertThat(storedEmployee).isNotSameAs(employee);
+        assertThat(storedEmployee).usingRecursiveComparison().isEqualTo(employee);
+    }
+
+    // JUnit test for findByEmail operation
+    @DisplayName("JUnit test for findByEmail operation")
+    @Test
+    public void givenEmployeeObject_whenFindByEmail_thenMatchTenantAndEmail() {
+        // given - precondition or setup
+        store.put(employee);
+
+        // when - action or the behaviour to be tested
+        // then - verify the output
+        assertThat(store.findByEmail("default", "moses@gmail.com")).isPresent();
+        assertThat(store.findByEmail("other", "moses@gmail.com")).isEmpty();
+        assertThat(store.findByEmail("default", "hunsu@gmail.com")).isEmpty();
+    }
+
+    // JUnit test for updating an employee with a new email
+    @DisplayName("JUnit test for updating an employee with a new email")
+    @Test
+    public void givenStoredEmployee_whenPutWithNewEmail_thenOldEmailIsGone() {
+        // given - precondition or setup
+        store.put(employee);
+        employee.setEmail("hunsu@gmail.com");
+
+        // when - action or the behaviour to be tested
+        store.put(employee);
+
+        // then - verify the output
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findByEmail("default", "moses@gmail.com")).isEmpty();
+        assertThat(store.findById(1L).get().getEmail()).isEqualTo("hunsu@gmail.com");
+    }
+
+    // JUnit test for remove operation
+    @DisplayName("JUnit test for remove operation")
+    @Test
+    public void givenStoredEmployee_whenRemove_thenEmployeeIsGone() {
+        // given - precondition or setup
+        store.put(employee);
+
+        // when - action or the behaviour to be tested
+        boolean removed = store.remove(1L);
+
+        // then - verify the output
+        assertThat(removed).isTrue();
+        assertThat(store.findById(1L)).isEmpty();
+        assertThat(store.findByEmail("default", "moses@gmail.com")).isEmpty();
+        assertThat(store.remove(1L)).isFalse();
+    }
+
+    // JUnit test for many puts, updates and removes across growth and compaction
+    @DisplayName("JUnit test for many puts, updates and removes across growth and compaction")
+    @Test
+    public void givenManyEmployees_whenChurned_thenIndexesStayConsistent() {
+        // given - precondition or setup
+        int employees = 20_000;
+        for (long id = 1; id <= employees; id++) {
+            store.put(generated(id, 0));
+        }
+
+        // when - action or the behaviour to be tested
+        Random random = new Random(42);
+        for (int round = 1; round <= 5; round++) {
+            for (long id = 1; id <= employees; id++) {
+                if (id % 3 == 0) {
+                    store.remove(id);
+                    store.put(generated(id, round));
+                } else if (random.nextInt(4) == 0) {
+                    store.put(generated(id, round));
+                }
+            }
+        }
+
+        // then - verify the output
+        assertThat(store.size()).isEqualTo(employees);
+        for (long id = 1; id <= employees; id++) {
+            Employee storedEmployee = store.findById(id).get();
+            assertThat(storedEmployee.getId()).isEqualTo(id);
+            assertThat(store.findByEmail("default", storedEmployee.getEmail())).isPresent();
+        }
+    }
+
+    // JUnit test for persisting and loading the snapshot file
+    @DisplayName("JUnit test for persisting and loading the snapshot file")
+    @Test
+    public void givenStoredEmployees_whenPersistAndLoad_thenEmployeesAreRestored(@TempDir Path directory)
+            throws Exception {
+        // given - precondition or setup
+        store.put(employee);
+        store.put(generated(2L, 0));
+        store.put(generated(3L, 0));
+        store.remove(3L);
+        Path file = directory.resolve("employees.snapshot");
+
+        // when - action or the behaviour to be tested
+        store.persist(file);
+        OffHeapEmployeeStore loaded = OffHeapEmployeeStore.load(file);
+        loaded.put(generated(4L, 0));
+
+        // then - verify the output
+        assertThat(loaded.size()).isEqualTo(3);
+        assertThat(loaded.findById(1L).get()).usingRecursiveComparison().isEqualTo(employee);
+        assertThat(loaded.findById(3L)).isEmpty();
+        assertThat(loaded.findByEmail("default", "employee4.0@company.com")).isPresent();
+    }
+
+    // JUnit test for loading a truncated snapshot file
+    @DisplayName("JUnit test for loading a truncated snapshot file")
+    @Test
+    public void givenTruncatedSnapshotFile_whenLoad_thenThrowsIOException(@TempDir Path directory) throws Exception {
+        // given - precondition or setup
+        store.put(employee);
+        store.put(generated(2L, 0));
+        Path file = directory.resolve("employees.snapshot");
+        store.persist(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+        }
+
+        // when - action or the behaviour to be tested
+        // then - verify the output
+        org.junit.jupiter.api.Assertions.assertThrows(IOException.class, () -> OffHeapEmployeeStore.load(file));
+    }
+
+    // JUnit test for loading a snapshot file with a corrupt record length
+    @DisplayName("JUnit test for loading a snapshot file with a corrupt record length")
+    @Test
+    public void givenZeroRecordLength_whenLoad_thenThrowsIOException(@TempDir Path directory) throws Exception {
+        // given - precondition or setup
+        store.put(employee);
+        store.put(generated(2L, 0));
+        Path file = directory.resolve("employees.snapshot");
+        store.persist(file);
+        // the second record starts right after the 16 byte header and the first record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            channel.read(length, 16);
+            channel.write(ByteBuffer.allocate(4).putInt(0).flip(), 16 + length.flip().getInt());
+        }
+
+        // when - action or the behaviour to be tested
+        // then - verify the output
+        org.junit.jupiter.api.Assertions.assertThrows(IOException.class, () -> OffHeapEmployeeStore.load(file));
+    }
+
+    private static Employee generated(long id, int version) {
+        return Employee.builder()
+                .id(id)
+                .firstName("First" + id)
+                .lastName("Last" + (id % 100))
+                .email("employee" + id + "." + version + "@company.com")
+                .createdAt(LocalDateTime.of(2023, 9, 1, 10, 0))
+                .tenantId("default")
+                .build();
+    }
+
+}
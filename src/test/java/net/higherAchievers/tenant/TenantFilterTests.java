@@ -0,0 +1,341 @@
+package net.higherAchievers.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.higherAchievers.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: a test transaction would open the session before the filter sets the tenant.
+// Every test uses fresh tenant ids instead of rolling back.
+@SpringBootTest(properties = "app.tenancy.enabled=true")
+@AutoConfigureMockMvc
+public class TenantFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TenantFilter tenantFilter;
+
+    private String tenantA;
+    private String tenantB;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        tenantA = "a-" + UUID.randomUUID();
+        tenantB = "b-" + UUID.randomUUID();
+        employee = Employee.builder()
+                .firstName("Moses")
+                .lastName("Hunsu")
+                .email("moses@yahoo.com")
+                .build();
+    }
+
+    // Integration test for creating employees in a tenant
+    @DisplayName("Integration test for creating employees in a tenant")
+    @Test
+    public void givenTwoTenants_whenCreateEmployeeWithSameEmail_thenBothAreCreated() throws Exception {
+        // given - precondition or setup
+        // when - action or the behaviour to be tested
+        ResultActions responseA = createEmployee(tenantA);
+        ResultActions responseB = createEmployee(tenantB);
+
+        // then - verify the output
+        responseA.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.tenantId", is(tenantA)));
+        responseB.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.tenantId", is(tenantB)));
+
+    }
+
+    // Integration test for listing employees of a tenant
+    @DisplayName("Integration test for listing employees of a tenant")
+    @Test
+    public void givenEmployeeInOtherTenant_whenGetAllEmployees_thenReturnOwnEmployeesOnly() throws Exception {
+        // given - precondition or setup
+        createEmployee(tenantA).andExpect(status().isCreated());
+
+        // when - action or the behaviour to be tested
+        ResultActions responseA = mockMvc.perform(get("/api/employees").header("X-Tenant-ID", tenantA));
+        ResultActions responseB = mockMvc.perform(get("/api/employees").header("X-Tenant-ID", tenantB));
+
+        // then - verify the output
+        responseA.andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)));
+        responseB.andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(0)));
+
+    }
+
+    // Integration test for getting an employee of another tenant by id
+    @DisplayName("Integration test for getting an employee of another tenant by id")
+    @Test
+    public void givenEmployeeInOtherTenant_whenGetEmployeeById_thenReturnNotFound() throws Exception {
+        // given - precondition or setup
+        String body = createEmployee(tenantA).andReturn().getResponse().getContentAsString();
+        long employeeId = objectMapper.readValue(body, Employee.class).getId();
+
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("X-Tenant-ID", tenantB));
+
+        // then - verify the output
+        response.andExpect(status().isNotFound());
+
+    }
+
+    // Integration test for deleting an employee of another tenant
+    @DisplayName("Integration test for deleting an employee of another tenant")
+    @Test
+    public void givenEmployeeInOtherTenant_whenDeleteEmployee_thenEmployeeIsKept() throws Exception {
+        // given - precondition or setup
+        String body = createEmployee(tenantA).andReturn().getResponse().getContentAsString();
+        long employeeId = objectMapper.readValue(body, Employee.class).getId();
+
+        // when - action or the behaviour to be tested
+        mockMvc.perform(delete("/api/employees?id={employeeId}", employeeId).header("X-Tenant-ID", tenantB));
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("X-Tenant-ID", tenantA));
+
+        // then - verify the output
+        response.andExpect(status().isOk());
+
+    }
+
+    // Integration test for creating an employee with the id of another tenant's employee
+    @DisplayName("Integration test for creating an employee with the id of another tenant's employee")
+    @Test
+    public void givenEmployeeInOtherTenant_whenCreateEmployeeWithItsId_thenNewEmployeeIsCreated() throws Exception {
+        // given - precondition or setup
+        String body = createEmployee(tenantA).andReturn().getResponse().getContentAsString();
+        long employeeId = objectMapper.readValue(body, Employee.class).getId();
+        Employee foreignEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName("Hack")
+                .lastName("Hunsu")
+                .email("hack@gmail.com")
+                .build();
+
+        // when - action or the behaviour to be tested
+        ResultActions responseB = mockMvc.perform(post("/api/employees")
+                .header("X-Tenant-ID", tenantB)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(foreignEmployee)));
+        ResultActions responseA = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("X-Tenant-ID", tenantA));
+
+        // then - verify the output
+        responseB.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.tenantId", is(tenantB)));
+        assertThat(objectMapper.readValue(responseB.andReturn().getResponse().getContentAsString(), Employee.class)
+                .getId()).isNotEqualTo(employeeId);
+        responseA.andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is(employee.getFirstName())))
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+
+    }
+
+    // Integration test for employee stats of a tenant
+    @DisplayName("Integration test for employee stats of a tenant")
+    @Test
+    public void givenEmployeeInOtherTenant_whenCountByEmailDomain_thenReturnOwnCountsOnly() throws Exception {
+        // given - precondition or setup
+        createEmployee(tenantA).andExpect(status().isCreated());
+
+        // when - action or the behaviour to be tested
+        ResultActions responseA = mockMvc.perform(get("/api/employees/stats/email-domains")
+                .header("X-Tenant-ID", tenantA));
+        ResultActions responseB = mockMvc.perform(get("/api/employees/stats/email-domains")
+                .header("X-Tenant-ID", tenantB));
+
+        // then - verify the output
+        responseA.andExpect(status().isOk())
+                .andExpect(jsonPath("$['yahoo.com']", is(1)));
+        responseB.andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(0)));
+
+    }
+
+    // Integration test for employee stats after creating an employee with an existing id
+    @DisplayName("Integration test for employee stats after creating an employee with an existing id")
+    @Test
+    public void givenCachedStats_whenCreateEmployeeWithExistingId_thenBothEmployeesAreCounted() throws Exception {
+        // given - precondition or setup
+        String body = createEmployee(tenantA).andReturn().getResponse().getContentAsString();
+        long employeeId = objectMapper.readValue(body, Employee.class).getId();
+        mockMvc.perform(get("/api/employees/stats/email-domains").header("X-Tenant-ID", tenantA))
+                .andExpect(jsonPath("$['yahoo.com']", is(1)));
+        Employee employee1 = Employee.builder()
+                .id(employeeId)
+                .firstName("Favour")
+                .lastName("Attah")
+                .email("favour@gmail.com")
+                .build();
+
+        // when - action or the behaviour to be tested
+        mockMvc.perform(post("/api/employees")
+                        .header("X-Tenant-ID", tenantA)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee1)))
+                .andExpect(status().isCreated());
+        ResultActions emailDomains = mockMvc.perform(get("/api/employees/stats/email-domains")
+                .header("X-Tenant-ID", tenantA));
+        ResultActions lastNames = mockMvc.perform(get("/api/employees/stats/last-names")
+                .header("X-Tenant-ID", tenantA));
+
+        // then - verify the output
+        emailDomains.andExpect(status().isOk())
+                .andExpect(jsonPath("$['yahoo.com']", is(1)))
+                .andExpect(jsonPath("$['gmail.com']", is(1)));
+        lastNames.andExpect(status().isOk())
+                .andExpect(jsonPath("$['Hunsu']", is(1)))
+                .andExpect(jsonPath("$['Attah']", is(1)));
+
+    }
+
+    // Integration test for a request without tenant header
+    @DisplayName("Integration test for a request without tenant header")
+    @Test
+    public void givenNoTenantHeader_whenGetAllEmployees_thenReturnBadRequest() throws Exception {
+        // given - precondition or setup
+        // when - action or the behaviour to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees"));
+
+        // then - verify the output
+        response.andExpect(status().isBadRequest());
+
+    }
+
+    // Integration test for requests of many distinct tenants
+    @DisplayName("Integration test for requests of many distinct tenants")
+    @Test
+    public void givenManyDistinctTenants_whenRequestsComplete_thenNoPermitsAreKept() throws Exception {
+        // given - precondition or setup
+        int tenants = 100;
+
+        // when - action or the behaviour to be tested
+        for (int i = 0; i < tenants; i++) {
+            mockMvc.perform(get("/api/employees").header("X-Tenant-ID", "t-" + UUID.randomUUID()))
+                    .andExpect(status().isOk());
+        }
+
+        // then - verify the output
+        assertThat(tenantFilter.trackedTenants()).isZero();
+        assertThat(tenantFilter.fairShare()).isEqualTo(10 / 4);
+
+    }
+
+    // Unit test for one tenant running more requests than its share while the pool is idle
+    @DisplayName("Unit test for one tenant running more requests than its share while the pool is idle")
+    @Test
+    public void givenIdlePool_whenTenantRunsMoreThanItsShare_thenAllRequestsRun() throws Exception {
+        // given - precondition or setup
+        // a share of 10 / 4 = 2 requests
+        TenantFilter filter = new TenantFilter("X-Tenant-ID", 0, 4, 10, Duration.ofMillis(200));
+        CountDownLatch running = new CountDownLatch(5);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(5);
+
+        try {
+            // when - action or the behaviour to be tested
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                statuses.add(clients.submit(() -> perform(filter, tenantA, running, finish)));
+            }
+
+            // then - verify the output
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            finish.countDown();
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get()).isEqualTo(200);
+            }
+        } finally {
+            finish.countDown();
+            clients.shutdownNow();
+        }
+    }
+
+    // Unit test for tenants beyond and within their share while the pool is busy
+    @DisplayName("Unit test for tenants beyond and within their share while the pool is busy")
+    @Test
+    public void givenBusyPool_whenTenantsRequestMore_thenOnlyTenantsWithinTheirShareRun() throws Exception {
+        // given - precondition or setup
+        // a pool of 4 with a share of 4 / 2 = 2 requests, all 4 taken by tenant a
+        TenantFilter filter = new TenantFilter("X-Tenant-ID", 0, 2, 4, Duration.ofMillis(200));
+        CountDownLatch running = new CountDownLatch(4);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                clients.submit(() -> perform(filter, tenantA, running, finish));
+            }
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when - action or the behaviour to be tested
+            int statusA = perform(filter, tenantA, new CountDownLatch(1), new CountDownLatch(0));
+            int statusB = perform(filter, tenantB, new CountDownLatch(1), new CountDownLatch(0));
+
+            // then - verify the output
+            assertThat(statusA).isEqualTo(429);
+            assertThat(statusB).isEqualTo(200);
+        } finally {
+            finish.countDown();
+            clients.shutdownNow();
+        }
+    }
+
+    private static int perform(TenantFilter filter, String tenantId, CountDownLatch running, CountDownLatch finish)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader("X-Tenant-ID", tenantId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            running.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return response.getStatus();
+    }
+
+    private ResultActions createEmployee(String tenantId) throws Exception {
+        return mockMvc.perform(post("/api/employees")
+                .header("X-Tenant-ID", tenantId)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+    }
+
+}